@@ -1,6 +1,7 @@
 package com.codepresso.codepresso.board.service;
 
 import com.codepresso.codepresso.board.dto.*;
+import com.codepresso.codepresso.common.reference.ReferenceDataRegistry;
 import com.codepresso.codepresso.common.response.AuthResponse;
 import com.codepresso.codepresso.board.converter.Board;
 import com.codepresso.codepresso.board.converter.BoardType;
@@ -28,6 +29,7 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final BoardTypeRepository boardTypeRepository;
     private final MemberRepository memberRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /**
      * 게시글 목록 조회
@@ -42,11 +44,14 @@ public class BoardService {
             System.out.println("=== BoardService.getBoardList ===");
             System.out.println("boardTypeId: " + boardTypeId);
             
-            // 게시판 타입 조회
-            BoardType boardType = boardTypeRepository.findById(boardTypeId)
-                    .orElseThrow(() -> new NoSuchElementException("게시판을 찾을 수 없습니다. ID: " + boardTypeId));
+            // 게시판 타입 확인 (기준 데이터 레지스트리, 쿼리 없음)
+            ReferenceDataRegistry.BoardTypeRef boardTypeRef = referenceDataRegistry.getBoardType(boardTypeId);
+            if (boardTypeRef == null) {
+                throw new NoSuchElementException("게시판을 찾을 수 없습니다. ID: " + boardTypeId);
+            }
+            BoardType boardType = boardTypeRepository.getReferenceById(boardTypeId);
             
-            System.out.println("boardType found: " + boardType);
+            System.out.println("boardType found: " + boardTypeRef.name());
 
             // 페이징 설정
             Pageable pageable = PageRequest.of(page, size);
@@ -124,9 +129,11 @@ public class BoardService {
             Member member = memberRepository.findById(memberId)
                     .orElseThrow(() -> new NoSuchElementException("회원을 찾을 수 없습니다. ID: " + memberId));
 
-            // 게시판 타입 조회
-            BoardType boardType = boardTypeRepository.findById(request.getBoardTypeId())
-                    .orElseThrow(() -> new NoSuchElementException("게시판을 찾을 수 없습니다. ID: " + request.getBoardTypeId()));
+            // 게시판 타입 확인 (기준 데이터 레지스트리, 쿼리 없음)
+            if (request.getBoardTypeId() == null || referenceDataRegistry.getBoardType(request.getBoardTypeId()) == null) {
+                throw new NoSuchElementException("게시판을 찾을 수 없습니다. ID: " + request.getBoardTypeId());
+            }
+            BoardType boardType = boardTypeRepository.getReferenceById(request.getBoardTypeId());
 
             // 부모 게시글 조회 (댓글인 경우)
             Board parent = null;
@@ -465,11 +472,13 @@ public class BoardService {
      * 게시판 타입 목록 조회
      * @return 게시판 타입 목록
      */
-    @Transactional(readOnly = true)
     public List<BoardTypeResponse> getBoardTypes() {
-        List<BoardType> boardTypes = boardTypeRepository.findAllByOrderByIdAsc();
-        return boardTypes.stream()
-                .map(BoardTypeResponse::from)
+        return referenceDataRegistry.getBoardTypes().stream()
+                .map(type -> BoardTypeResponse.builder()
+                        .id(type.id())
+                        .boardTypeName(type.name())
+                        .boardTypeDescription(type.description())
+                        .build())
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,66 @@
+package com.codepresso.codepresso.branch.controller;
+
+import com.codepresso.codepresso.branch.dto.SoldOutResponse;
+import com.codepresso.codepresso.branch.service.BranchAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지점 품절 상품 컨트롤러
+ * */
+@RequiredArgsConstructor
+@RestController
+public class BranchAvailabilityController {
+
+    private final BranchAvailabilityService branchAvailabilityService;
+
+    /**
+     * 지점 품절 상품 목록 (메모리 조회)
+     * GET /api/branches/{branchId}/sold-out
+     * ETag = 지점 버전, 변경이 없으면 304
+     * */
+    @GetMapping("/api/branches/{branchId}/sold-out")
+    public ResponseEntity<SoldOutResponse> getSoldOut(@PathVariable Long branchId, WebRequest webRequest) {
+        String eTag = "\"" + branchAvailabilityService.getVersion(branchId) + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(branchAvailabilityService.getSoldOut(branchId));
+    }
+
+    /**
+     * 품절 설정
+     * PUT /api/admin/branches/{branchId}/sold-out/{productId}
+     * */
+    @PutMapping("/api/admin/branches/{branchId}/sold-out/{productId}")
+    public ResponseEntity<Map<String, Object>> markSoldOut(@PathVariable Long branchId, @PathVariable Long productId) {
+        return ResponseEntity.ok(result(branchId, productId, true,
+                branchAvailabilityService.setSoldOut(branchId, productId, true)));
+    }
+
+    /**
+     * 품절 해제
+     * DELETE /api/admin/branches/{branchId}/sold-out/{productId}
+     * */
+    @DeleteMapping("/api/admin/branches/{branchId}/sold-out/{productId}")
+    public ResponseEntity<Map<String, Object>> clearSoldOut(@PathVariable Long branchId, @PathVariable Long productId) {
+        return ResponseEntity.ok(result(branchId, productId, false,
+                branchAvailabilityService.setSoldOut(branchId, productId, false)));
+    }
+
+    private Map<String, Object> result(Long branchId, Long productId, boolean soldOut, long version) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("branchId", branchId);
+        payload.put("productId", productId);
+        payload.put("soldOut", soldOut);
+        payload.put("version", version);
+        return payload;
+    }
+}
@@ -2,6 +2,8 @@ package com.codepresso.codepresso.branch.controller;
 
 import com.codepresso.codepresso.branch.entity.Branch;
 import com.codepresso.codepresso.branch.service.BranchService;
+import com.codepresso.codepresso.order.service.PickupSlotScheduler;
+import com.codepresso.codepresso.order.service.PrepTimeEstimator;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
@@ -10,7 +12,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -18,9 +22,14 @@ import java.util.Map;
 public class BranchController {
 
     private final BranchService branchService;
+    private final PickupSlotScheduler pickupSlotScheduler;
+    private final PrepTimeEstimator prepTimeEstimator;
 
-    public BranchController(BranchService branchService) {
+    public BranchController(BranchService branchService, PickupSlotScheduler pickupSlotScheduler,
+                            PrepTimeEstimator prepTimeEstimator) {
         this.branchService = branchService;
+        this.pickupSlotScheduler = pickupSlotScheduler;
+        this.prepTimeEstimator = prepTimeEstimator;
     }
 
     @GetMapping("/list")
@@ -94,4 +103,31 @@ public class BranchController {
         payload.put("closingTime", branch.getClosingTime());
         return ResponseEntity.ok(payload);
     }
+
+    /**
+     * 지점의 다음 빈 픽업 시각 (메모리 조회, DB 접근 없음)
+     */
+    @GetMapping(value = "/{branchId}/pickup-slots/next", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> nextPickupSlot(@PathVariable Long branchId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("branchId", branchId);
+        payload.put("pickupTime", pickupSlotScheduler.nextAvailable(branchId));
+        return ResponseEntity.ok(payload);
+    }
+
+    /**
+     * 지점에서 해당 상품들을 주문했을 때 예상 제조 시간 (메모리 조회)
+     */
+    @GetMapping(value = "/{branchId}/prep-eta", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> prepEta(@PathVariable Long branchId,
+                                                       @RequestParam List<Long> productIds) {
+        int seconds = prepTimeEstimator.estimateSeconds(branchId, productIds);
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("branchId", branchId);
+        payload.put("estimatedSeconds", seconds);
+        payload.put("estimatedReadyAt", LocalDateTime.now().plusSeconds(seconds));
+        return ResponseEntity.ok(payload);
+    }
 }
@@ -0,0 +1,18 @@
+package com.codepresso.codepresso.branch.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지점 품절 상품 목록
+ * version 이 같으면 목록도 같으므로 클라이언트는 캐시한 메뉴를 그대로 사용
+ */
+@Getter
+@Builder
+public class SoldOutResponse {
+    private Long branchId;
+    private long version;
+    private List<Long> productIds;
+}
@@ -0,0 +1,26 @@
+package com.codepresso.codepresso.branch.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 지점별 품절 상품
+ * 품절 상품 ID 를 오름차순 long 배열(8바이트씩, big-endian)로 한 행에 저장
+ * 상품 ID 크기와 상관없이 품절 상품 수만큼만 차지
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Table(name = "branch_sold_out")
+@Entity
+public class BranchSoldOut {
+
+    @Id
+    @Column(name = "branch_id")
+    private Long branchId;
+
+    @Column(name = "sold_out_product_ids", nullable = false, columnDefinition = "BLOB")
+    private byte[] soldOutProductIds;
+
+    @Column(name = "bits_version", nullable = false)
+    private long bitsVersion;       // 변경될 때마다 1 증가 (메뉴 캐시 갱신 기준)
+}
@@ -0,0 +1,31 @@
+package com.codepresso.codepresso.branch.repository;
+
+import com.codepresso.codepresso.branch.entity.BranchSoldOut;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BranchSoldOutRepository extends JpaRepository<BranchSoldOut, Long> {
+
+    /**
+     * 품절 변경용 조회 (같은 지점 동시 변경 시 갱신 유실 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BranchSoldOut s WHERE s.branchId = :branchId")
+    Optional<BranchSoldOut> findForUpdate(@Param("branchId") Long branchId);
+
+    /**
+     * 지점의 첫 품절 변경 전에 잠글 행을 만듦 (이미 있으면 그대로)
+     * 동시에 들어온 첫 변경끼리도 같은 행을 잠그고 차례로 갱신
+     */
+    @Modifying
+    @Query(value = "INSERT INTO branch_sold_out (branch_id, sold_out_product_ids, bits_version) VALUES (:branchId, '', 0) " +
+            "ON DUPLICATE KEY UPDATE branch_id = branch_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("branchId") Long branchId);
+}
@@ -0,0 +1,198 @@
+package com.codepresso.codepresso.branch.service;
+
+import com.codepresso.codepresso.branch.dto.SoldOutResponse;
+import com.codepresso.codepresso.branch.entity.BranchSoldOut;
+import com.codepresso.codepresso.branch.repository.BranchRepository;
+import com.codepresso.codepresso.branch.repository.BranchSoldOutRepository;
+import com.codepresso.codepresso.common.transaction.TransactionCallbacks;
+import com.codepresso.codepresso.product.service.CatalogNameDictionary;
+import com.codepresso.codepresso.product.service.ProductOrdinalRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지점별 품절 상품 관리
+ * - 메모리 : 지점마다 상품 순번(ProductOrdinalRegistry) 기준 비트셋, 조회는 비트 하나 확인 (O(1), 락 없음)
+ * - 저장 : branch_sold_out 한 행에 품절 상품 ID 정렬 목록 (순번은 재시작 시 바뀔 수 있으므로)
+ * - 변경 시 지점 version 증가, 메뉴 화면은 version 이 바뀐 지점만 다시 받음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BranchAvailabilityService {
+
+    private final BranchSoldOutRepository branchSoldOutRepository;
+    private final BranchRepository branchRepository;
+    private final ProductOrdinalRegistry productOrdinalRegistry;
+    private final CatalogNameDictionary catalogNameDictionary;
+
+    // branchId -> 품절 상태 (변경 시 통째로 교체)
+    private final ConcurrentHashMap<Long, State> states = new ConcurrentHashMap<>();
+
+    /**
+     * 품절 비트셋(상품 순번 기준)과 버전
+     */
+    private record State(BitSet soldOut, long version) {}
+
+    private static final State EMPTY = new State(new BitSet(), 0L);
+
+    /**
+     * 지점에서 상품이 품절인지
+     */
+    public boolean isSoldOut(Long branchId, Long productId) {
+        if (branchId == null) {
+            return false;
+        }
+        State state = states.getOrDefault(branchId, EMPTY);
+        if (state.soldOut().isEmpty()) {
+            return false;
+        }
+        int ordinal = productOrdinalRegistry.ordinalOf(productId);
+        return ordinal >= 0 && state.soldOut().get(ordinal);
+    }
+
+    /**
+     * 품절 상품이 있으면 예외 (장바구니 담기, 결제 진입)
+     */
+    public void assertAvailable(Long branchId, Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            if (isSoldOut(branchId, productId)) {
+                throw new IllegalArgumentException("선택한 매장에서 품절된 상품입니다: " + catalogNameDictionary.getProductName(productId));
+            }
+        }
+    }
+
+    /**
+     * 지점 품절 상품 목록과 버전
+     */
+    public SoldOutResponse getSoldOut(Long branchId) {
+        State state = states.getOrDefault(branchId, EMPTY);
+        List<Long> productIds = new ArrayList<>(state.soldOut().cardinality());
+        for (int ordinal = state.soldOut().nextSetBit(0); ordinal >= 0; ordinal = state.soldOut().nextSetBit(ordinal + 1)) {
+            Long productId = productOrdinalRegistry.productIdAt(ordinal);
+            if (productId != null) {
+                productIds.add(productId);
+            }
+        }
+        return SoldOutResponse.builder()
+                .branchId(branchId)
+                .version(state.version())
+                .productIds(productIds)
+                .build();
+    }
+
+    /**
+     * 지점 버전 (변경 없으면 그대로)
+     */
+    public long getVersion(Long branchId) {
+        return states.getOrDefault(branchId, EMPTY).version();
+    }
+
+    /**
+     * 품절 설정/해제 (관리자)
+     * @return 변경 후 지점 버전
+     */
+    @Transactional
+    public long setSoldOut(Long branchId, Long productId, boolean soldOut) {
+        if (!branchRepository.existsById(branchId)) {
+            throw new IllegalArgumentException("존재하지 않는 지점입니다.");
+        }
+        if (productId == null || productId <= 0 || catalogNameDictionary.getProductName(productId) == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다.");
+        }
+
+        branchSoldOutRepository.insertIfAbsent(branchId);
+        BranchSoldOut row = branchSoldOutRepository.findForUpdate(branchId)
+                .orElseThrow(() -> new IllegalStateException("품절 정보 행이 없습니다: " + branchId));
+        long[] productIds = decode(row.getSoldOutProductIds());
+        int pos = Arrays.binarySearch(productIds, productId);
+        if ((pos >= 0) == soldOut) {
+            return row.getBitsVersion();
+        }
+
+        long[] next = soldOut ? insert(productIds, -pos - 1, productId) : remove(productIds, pos);
+        row.setSoldOutProductIds(encode(next));
+        row.setBitsVersion(row.getBitsVersion() + 1);
+        branchSoldOutRepository.save(row);
+
+        State state = toState(next, row.getBitsVersion());
+        TransactionCallbacks.afterCommit(() -> apply(branchId, state));
+        return state.version();
+    }
+
+    /**
+     * 서버 시작 시 전체 지점 품절 정보 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            for (BranchSoldOut row : branchSoldOutRepository.findAll()) {
+                apply(row.getBranchId(), toState(decode(row.getSoldOutProductIds()), row.getBitsVersion()));
+            }
+            log.info("[BranchAvailability] loaded {} branches", states.size());
+        } catch (Exception e) {
+            log.warn("[BranchAvailability] load failed", e);
+        }
+    }
+
+    /**
+     * 품절 상품 ID 목록 -> 상품 순번 기준 비트셋
+     */
+    private State toState(long[] productIds, long version) {
+        BitSet soldOut = new BitSet();
+        for (long productId : productIds) {
+            int ordinal = productOrdinalRegistry.ordinalOf(productId);
+            if (ordinal >= 0) {
+                soldOut.set(ordinal);
+            }
+        }
+        return new State(soldOut, version);
+    }
+
+    private static long[] insert(long[] productIds, int at, long productId) {
+        long[] next = new long[productIds.length + 1];
+        System.arraycopy(productIds, 0, next, 0, at);
+        next[at] = productId;
+        System.arraycopy(productIds, at, next, at + 1, productIds.length - at);
+        return next;
+    }
+
+    private static long[] remove(long[] productIds, int at) {
+        long[] next = new long[productIds.length - 1];
+        System.arraycopy(productIds, 0, next, 0, at);
+        System.arraycopy(productIds, at + 1, next, at, next.length - at);
+        return next;
+    }
+
+    private static byte[] encode(long[] productIds) {
+        ByteBuffer buffer = ByteBuffer.allocate(productIds.length * Long.BYTES);
+        buffer.asLongBuffer().put(productIds);
+        return buffer.array();
+    }
+
+    private static long[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return new long[0];
+        }
+        long[] productIds = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(productIds);
+        return productIds;
+    }
+
+    // 늦게 커밋된 이전 변경이 최신 상태를 덮지 않도록 버전 비교
+    private void apply(Long branchId, State state) {
+        states.merge(branchId, state, (current, next) -> next.version() > current.version() ? next : current);
+    }
+}
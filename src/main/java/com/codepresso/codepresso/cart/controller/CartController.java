@@ -56,9 +56,10 @@ public class CartController {
             @AuthenticationPrincipal LoginUser loginUser,
             @RequestParam Long productId,
             @RequestParam int quantity,
-            @RequestParam(required = false) List<Long> optionIds
+            @RequestParam(required = false) List<Long> optionIds,
+            @RequestParam(required = false) Long branchId
     ) {
-        CartItem savedItem = cartService.addItemWithOptions(loginUser.getMemberId(), productId, quantity, optionIds);
+        CartItem savedItem = cartService.addItemWithOptions(loginUser.getMemberId(), branchId, productId, quantity, optionIds);
 
         //cartItem -> DTO 변환
         CartItemResponse response = CartItemResponse.builder()
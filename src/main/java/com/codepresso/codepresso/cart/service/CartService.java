@@ -1,5 +1,6 @@
 package com.codepresso.codepresso.cart.service;
 
+import com.codepresso.codepresso.branch.service.BranchAvailabilityService;
 import com.codepresso.codepresso.cart.dto.CartOptionResponse;
 import com.codepresso.codepresso.cart.dto.CartItemResponse;
 import com.codepresso.codepresso.cart.dto.CartResponse;
@@ -38,12 +39,25 @@ public class CartService {
     private final ProductRepository productRepository;
     private final ProductOptionRepository productOptionRepository;
     private final MemberRepository memberRepository;
+    private final BranchAvailabilityService branchAvailabilityService;
 
 
     // c - 아이템 추가(동일 상품+옵션 묶음이면 수량 증가, 아니면 새 행 추가)
     public CartItem addItemWithOptions(Long memberId, Long productId, int quantity, List<Long> optionIds) {
+        return addItemWithOptions(memberId, null, productId, quantity, optionIds);
+    }
+
+    // c - 선택 매장 기준 품절 확인 후 아이템 추가 (branchId 가 없으면 확인 생략)
+    public CartItem addItemWithOptions(Long memberId, Long branchId, Long productId, int quantity, List<Long> optionIds) {
         if (quantity <= 0) throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
 
+        // 상품 조회 (존재 확인 후 품절 확인)
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품이 없습니다. productId=" + productId));
+        if (branchAvailabilityService.isSoldOut(branchId, productId)) {
+            throw new IllegalArgumentException("선택한 매장에서 품절된 상품입니다. productId=" + productId);
+        }
+
         // 회원 조회
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("회원이 존재하지 않습니다. memberId=" + memberId));
@@ -58,10 +72,6 @@ public class CartService {
 
         log.debug("카트" + (cart == null));
 
-        // 상품 조회
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품이 없습니다. productId=" + productId));
-
         // 옵션 중복 검증
         if (optionIds != null && !optionIds.isEmpty()) {
             long distinctCount = optionIds.stream().distinct().count();
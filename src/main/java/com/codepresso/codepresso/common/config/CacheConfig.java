@@ -22,8 +22,15 @@ public class CacheConfig {
                         .recordStats()
                         .build());
 
+        // 픽업완료 주문 상세는 더 이상 바뀌지 않으므로 TTL 없이 크기 기준으로만 제거
+        CaffeineCache completedOrderDetailsCache = new CaffeineCache("completedOrderDetails",
+                Caffeine.newBuilder()
+                        .maximumSize(20_000)
+                        .recordStats()
+                        .build());
+
         SimpleCacheManager manager = new SimpleCacheManager();
-        manager.setCaches(List.of(categoriesCache));
+        manager.setCaches(List.of(categoriesCache, completedOrderDetailsCache));
         return manager;
     }
 }
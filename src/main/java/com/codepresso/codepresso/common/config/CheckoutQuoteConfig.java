@@ -0,0 +1,17 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 견적 토큰 설정
+ * 결제 페이지에서 발급한 가격 견적을 서명/검증할 때 사용
+ */
+@ConfigurationProperties(prefix = "app.payment.quote")
+@Component
+@Data
+public class CheckoutQuoteConfig {
+    private String secret;              // HMAC 서명 키 (기본값 없음, 환경변수 CHECKOUT_QUOTE_SECRET 필수)
+    private long ttlMinutes = 30;       // 견적 유효 시간 (분)
+}
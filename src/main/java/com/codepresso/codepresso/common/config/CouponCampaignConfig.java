@@ -0,0 +1,16 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 일괄 발급 캠페인 설정
+ */
+@ConfigurationProperties(prefix = "app.coupon.campaign")
+@Component
+@Data
+public class CouponCampaignConfig {
+    private int chunkSize = 1000;       // 한 트랜잭션에서 발급할 회원 수
+    private int rowsPerSecond = 2000;   // 초당 최대 발급 수 (운영 트래픽 보호)
+}
@@ -0,0 +1,17 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 만료 정리 설정
+ * 만료일이 지난 미사용 쿠폰을 PK 범위 chunk 단위로 EXPIRED 전환
+ */
+@ConfigurationProperties(prefix = "app.coupon.expiry")
+@Component
+@Data
+public class CouponExpiryConfig {
+    private boolean enabled = true;
+    private int chunkSize = 5000;       // 한 UPDATE 문이 다루는 PK 범위 (잠금 구간 제한)
+}
@@ -0,0 +1,17 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 즐겨찾기 수 보정 설정
+ * favorite 행 수와 product.favorite_count 차이를 상품 ID 범위 chunk 단위로 보정
+ */
+@ConfigurationProperties(prefix = "app.favorite.reconcile")
+@Component
+@Data
+public class FavoriteReconcileConfig {
+    private boolean enabled = true;
+    private int chunkSize = 1000;       // GROUP BY 한 번이 다루는 상품 ID 범위
+}
@@ -0,0 +1,22 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 아카이브 설정
+ * horizonMonths 보다 오래된 주문을 orders -> orders_archive 등 보관 테이블로 이동
+ */
+@ConfigurationProperties(prefix = "app.order.archive")
+@Component
+@Data
+public class OrderArchiveConfig {
+    private boolean enabled = true;
+    private int horizonMonths = 12;     // 보관 기준 (개월) - 기간 필터(1/3개월)가 hot 테이블만 보도록 최소 3개월
+    private int chunkSize = 500;        // 한 트랜잭션에서 이동할 주문 수
+
+    public int getEffectiveHorizonMonths() {
+        return Math.max(horizonMonths, 3);
+    }
+}
@@ -0,0 +1,18 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 픽업 시간대(slot) 용량 설정
+ */
+@ConfigurationProperties(prefix = "app.order.pickup-slot")
+@Component
+@Data
+public class PickupSlotConfig {
+    private int slotMinutes = 5;        // 시간대 단위 (분)
+    private int capacity = 10;          // 지점별 시간대당 최대 주문 수
+    private int horizonSlots = 288;     // 관리하는 시간대 수 (5분 * 288 = 24시간)
+    private int minLeadMinutes = 5;     // 주문 시점부터 최소 준비 시간 (분)
+}
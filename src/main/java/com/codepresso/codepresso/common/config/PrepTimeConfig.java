@@ -0,0 +1,17 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제조 시간 추정(EWMA) 설정
+ */
+@ConfigurationProperties(prefix = "app.order.prep-time")
+@Component
+@Data
+public class PrepTimeConfig {
+    private double alpha = 0.2;             // 새 표본 가중치 (클수록 최근 값에 민감)
+    private int defaultSeconds = 300;       // 표본이 없을 때 추정값 (5분)
+    private int maxSampleSeconds = 3600;    // 이보다 긴 표본은 이상치로 보고 버림
+}
@@ -0,0 +1,16 @@
+package com.codepresso.codepresso.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스탬프 이벤트 로그 압축(스냅샷) 설정
+ */
+@ConfigurationProperties(prefix = "app.stamp.ledger")
+@Component
+@Data
+public class StampLedgerConfig {
+    private int chunkSize = 1000;       // 한 트랜잭션에서 압축할 이벤트 수
+    private int settleSeconds = 60;     // 이보다 최근 이벤트는 다음 주기에 모아서 압축 (잔액에는 이미 합산됨)
+}
@@ -0,0 +1,61 @@
+package com.codepresso.codepresso.common.config.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 회원별 주문 수 카운터 초기 적재
+ * member_order_count 가 비어 있을 때만 기존 orders 로부터 한 번 집계
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 7)
+@RequiredArgsConstructor
+public class MemberOrderCountInitializer implements ApplicationRunner {
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[Init] MemberOrderCountInitializer start");
+
+        int existing = countRows();
+        if (existing > 0) {
+            log.info("[Init] member_order_count already seeded ({} rows), skip", existing);
+            return;
+        }
+
+        try (Connection c = dataSource.getConnection();
+             Statement st = c.createStatement()) {
+            int inserted = st.executeUpdate(
+                    "INSERT IGNORE INTO member_order_count (member_id, order_count) " +
+                    "SELECT member_id, COUNT(*) FROM orders GROUP BY member_id");
+            log.info("[Init] member_order_count rows inserted: {}", inserted);
+        } catch (Exception e) {
+            log.warn("[Init] member_order_count backfill failed", e);
+        }
+
+        log.info("[Init] MemberOrderCountInitializer done");
+    }
+
+    private int countRows() {
+        try (Connection c = dataSource.getConnection();
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM member_order_count")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (Exception e) {
+            log.warn("[Init] member_order_count count failed", e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.codepresso.codepresso.common.config.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 주문 아카이브 테이블 생성
+ * hot 테이블과 같은 구조(LIKE, FK 제외)로 보관 테이블과 진행 위치(checkpoint) 테이블을 준비
+ * 토스 orderId 는 보관 테이블에도 두되, 1회 사용 검사용 unique key 는 hot 테이블(orders)에만 둠
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 9) // OrdersSummaryInitializer 다음
+@RequiredArgsConstructor
+public class OrderArchiveInitializer implements ApplicationRunner {
+
+    private final DataSource dataSource;
+
+    private static final String[] DDL = {
+            "CREATE TABLE IF NOT EXISTS orders_archive LIKE orders",
+            "CREATE TABLE IF NOT EXISTS order_detail_archive LIKE order_detail",
+            "CREATE TABLE IF NOT EXISTS order_item_options_archive LIKE order_item_options",
+            "CREATE TABLE IF NOT EXISTS order_summary_archive LIKE order_summary",
+            "CREATE TABLE IF NOT EXISTS order_archive_checkpoint (" +
+                    " name VARCHAR(50) NOT NULL PRIMARY KEY," +
+                    " last_order_id BIGINT NOT NULL," +
+                    " updated_at DATETIME NOT NULL)"
+    };
+
+    private static final String TOSS_ORDER_ID_UNIQUE_KEY = "uk_orders_toss_order_id";
+    private static final String TOSS_ORDER_ID_ARCHIVE_INDEX = "idx_orders_archive_toss_order_id";
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[Init] OrderArchiveInitializer start");
+
+        try (Connection c = dataSource.getConnection();
+             Statement st = c.createStatement()) {
+            for (String ddl : DDL) {
+                st.execute(ddl);
+            }
+            alignTossOrderId(c, st);
+        } catch (Exception e) {
+            log.warn("[Init] order archive tables create failed", e);
+        }
+
+        log.info("[Init] OrderArchiveInitializer done");
+    }
+
+    /**
+     * toss_order_id 컬럼 추가 전에 만들어진 보관 테이블은 컬럼을 추가하고,
+     * LIKE 로 복사된 unique key 는 일반 인덱스(환불/조회용)로 바꿈
+     */
+    private void alignTossOrderId(Connection c, Statement st) throws Exception {
+        if (!exists(c, "SELECT 1 FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'orders_archive' AND column_name = 'toss_order_id'")) {
+            st.execute("ALTER TABLE orders_archive ADD COLUMN toss_order_id VARCHAR(64) NULL");
+            log.info("[Init] orders_archive.toss_order_id added");
+        }
+        if (exists(c, "SELECT 1 FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'orders_archive' AND index_name = '" + TOSS_ORDER_ID_UNIQUE_KEY + "'")) {
+            st.execute("ALTER TABLE orders_archive DROP INDEX " + TOSS_ORDER_ID_UNIQUE_KEY);
+            log.info("[Init] orders_archive unique key {} dropped", TOSS_ORDER_ID_UNIQUE_KEY);
+        }
+        if (!exists(c, "SELECT 1 FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'orders_archive' AND index_name = '" + TOSS_ORDER_ID_ARCHIVE_INDEX + "'")) {
+            st.execute("CREATE INDEX " + TOSS_ORDER_ID_ARCHIVE_INDEX + " ON orders_archive (toss_order_id)");
+        }
+    }
+
+    private boolean exists(Connection c, String sql) throws Exception {
+        try (PreparedStatement ps = c.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.codepresso.codepresso.common.config.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 주문 요약(order_summary) 초기 적재
+ * order_summary 가 비어 있을 때만 기존 orders 로부터 한 번 생성
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 8)
+@RequiredArgsConstructor
+public class OrdersSummaryInitializer implements ApplicationRunner {
+
+    private final DataSource dataSource;
+
+    private static final String BACKFILL_SQL =
+            "INSERT IGNORE INTO order_summary " +
+            "(order_id, member_id, branch_name, order_date, production_status, takeout, pickup_time, " +
+            " total_amount, representative_product_id, representative_product_name, item_count) " +
+            "SELECT o.order_id, o.member_id, b.branch_name, o.order_date, o.production_status, o.takeout, o.pickup_time, " +
+            "       o.total_amount, p.product_id, p.product_name, " +
+            "       (SELECT COUNT(*) FROM order_detail d WHERE d.order_id = o.order_id) " +
+            "FROM orders o " +
+            "JOIN branch b ON b.branch_id = o.branch_id " +
+            "LEFT JOIN order_detail od ON od.order_id = o.order_id AND od.is_representative = 1 " +
+            "LEFT JOIN product p ON p.product_id = od.product_id";
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[Init] OrdersSummaryInitializer start");
+
+        int existing = countRows();
+        if (existing > 0) {
+            log.info("[Init] order_summary already seeded ({} rows), skip", existing);
+            return;
+        }
+
+        try (Connection c = dataSource.getConnection();
+             Statement st = c.createStatement()) {
+            int inserted = st.executeUpdate(BACKFILL_SQL);
+            log.info("[Init] order_summary rows inserted: {}", inserted);
+        } catch (Exception e) {
+            log.warn("[Init] order_summary backfill failed", e);
+        }
+
+        log.info("[Init] OrdersSummaryInitializer done");
+    }
+
+    private int countRows() {
+        try (Connection c = dataSource.getConnection();
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM order_summary")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (Exception e) {
+            log.warn("[Init] order_summary count failed", e);
+            return 0;
+        }
+    }
+}
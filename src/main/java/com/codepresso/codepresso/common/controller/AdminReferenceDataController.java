@@ -0,0 +1,30 @@
+package com.codepresso.codepresso.common.controller;
+
+import com.codepresso.codepresso.common.reference.ReferenceDataRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 관리자 기준 데이터(쿠폰 타입, 게시판 타입) 관리
+ * */
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/reference-data")
+@RestController
+public class AdminReferenceDataController {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    /**
+     * 기준 데이터 재적재
+     * POST /api/admin/reference-data/refresh
+     * */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Integer>> refresh() {
+        return ResponseEntity.ok(referenceDataRegistry.reload());
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
 /**
@@ -28,6 +29,8 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 @RequiredArgsConstructor
 public class ViewController {
 
+    private static final int FAVORITE_PAGE_SIZE = 20;
+
     @Getter
     private final MemberProfileService memberProfileService;
     private final FavoriteService favoriteService;
@@ -79,10 +82,12 @@ public class ViewController {
     }
 
     /**
-     * 즐겨찾기 목록
+     * 즐겨찾기 목록 (키셋 페이징, 다음 페이지는 cursorOrderby/cursorProductId 로 요청)
      */
     @GetMapping("/favorites")
-    public String favoriteList(Authentication authentication, Model model) {
+    public String favoriteList(Authentication authentication, Model model,
+                               @RequestParam(required = false) Integer cursorOrderby,
+                               @RequestParam(required = false) Long cursorProductId) {
         Long memberId = null;
         Object principal = authentication.getPrincipal();
         if (principal instanceof LoginUser lu) {
@@ -90,8 +95,10 @@ public class ViewController {
         }
         try {
             // 즐겨찾기 목록 조회 후 JSP에 전달
-            FavoriteListResponse favoriteList = favoriteService.getFavoriteList(memberId);
+            FavoriteListResponse favoriteList = favoriteService.getFavoriteList(
+                    memberId, cursorOrderby, cursorProductId, FAVORITE_PAGE_SIZE);
             model.addAttribute("favoriteList", favoriteList);
+            model.addAttribute("isFirstPage", cursorOrderby == null || cursorProductId == null);
         } catch (Exception e) {
             // 에러 발생 시 에러 메시지를 JSP에 전달
             model.addAttribute("error", e.getMessage());
@@ -0,0 +1,129 @@
+package com.codepresso.codepresso.common.reference;
+
+import com.codepresso.codepresso.board.converter.BoardType;
+import com.codepresso.codepresso.board.service.BoardTypeRepository;
+import com.codepresso.codepresso.coupon.entity.CouponType;
+import com.codepresso.codepresso.coupon.repository.CouponTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기준 데이터(쿠폰 타입, 게시판 타입) 메모리 레지스트리
+ * - 시드 테이블(CouponTypeInitializer, BoardTypeInitializer)이라 서버 시작 시 한 번 적재, 관리자 API로 재적재
+ * - 적재 결과는 불변 스냅샷으로 통째로 교체, 조회는 맵 조회 한 번 (쿼리/객체 생성 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+
+    public static final String STAMP_REWARD = "STAMP_REWARD";
+
+    private final CouponTypeRepository couponTypeRepository;
+    private final BoardTypeRepository boardTypeRepository;
+
+    /**
+     * 쿠폰 타입 (coupon_type)
+     */
+    public record CouponTypeRef(Long id, String code, LocalDateTime validPeriod, String availableMenu) {}
+
+    /**
+     * 게시판 타입 (board_type)
+     */
+    public record BoardTypeRef(Long id, String name, String description) {}
+
+    private record Snapshot(Map<String, CouponTypeRef> couponTypesByCode,
+                            Map<Long, CouponTypeRef> couponTypesById,
+                            Map<Long, BoardTypeRef> boardTypesById,
+                            List<BoardTypeRef> boardTypes) {}
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 쿠폰 타입 코드로 조회 (없으면 null)
+     */
+    public CouponTypeRef getCouponType(String code) {
+        return snapshot().couponTypesByCode().get(code);
+    }
+
+    /**
+     * 쿠폰 타입 ID로 조회 (없으면 null)
+     */
+    public CouponTypeRef getCouponType(Long id) {
+        return snapshot().couponTypesById().get(id);
+    }
+
+    /**
+     * 게시판 타입 ID로 조회 (없으면 null)
+     */
+    public BoardTypeRef getBoardType(Long id) {
+        return snapshot().boardTypesById().get(id);
+    }
+
+    /**
+     * 게시판 타입 전체 (ID 순)
+     */
+    public List<BoardTypeRef> getBoardTypes() {
+        return snapshot().boardTypes();
+    }
+
+    /**
+     * 서버 시작 시 적재 (시드 Initializer 실행 후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("[ReferenceData] load failed", e);
+        }
+    }
+
+    /**
+     * 전체 재적재 (관리자 API, 시드 변경 시)
+     * @return 항목 수 (couponTypes, boardTypes)
+     */
+    public synchronized Map<String, Integer> reload() {
+        Map<String, CouponTypeRef> byCode = new HashMap<>();
+        Map<Long, CouponTypeRef> byId = new HashMap<>();
+        for (CouponType couponType : couponTypeRepository.findAll()) {
+            CouponTypeRef ref = new CouponTypeRef(couponType.getId(), couponType.getCouponType(),
+                    couponType.getValidPeriod(), couponType.getAvailableMenu());
+            byId.put(ref.id(), ref);
+            if (ref.code() != null) {
+                byCode.putIfAbsent(ref.code(), ref);
+            }
+        }
+
+        List<BoardTypeRef> boardTypes = new ArrayList<>();
+        Map<Long, BoardTypeRef> boardById = new HashMap<>();
+        for (BoardType boardType : boardTypeRepository.findAllByOrderByIdAsc()) {
+            BoardTypeRef ref = new BoardTypeRef(boardType.getId(), boardType.getBoardTypeName(),
+                    boardType.getBoardTypeDescription());
+            boardTypes.add(ref);
+            boardById.put(ref.id(), ref);
+        }
+
+        snapshot = new Snapshot(Map.copyOf(byCode), Map.copyOf(byId), Map.copyOf(boardById), List.copyOf(boardTypes));
+        log.info("[ReferenceData] loaded couponTypes={}, boardTypes={}", byId.size(), boardTypes.size());
+        return Map.of("couponTypes", byId.size(), "boardTypes", boardTypes.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+}
@@ -23,6 +23,8 @@ public class SecurityConfig {
 
                 // URL 접근 권한
                 .authorizeHttpRequests(auth -> auth
+                                // 관리자(직원) 전용 API
+                                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                                 // 공개 페이지/정적 리소스
                                 .requestMatchers(
                                         "/",
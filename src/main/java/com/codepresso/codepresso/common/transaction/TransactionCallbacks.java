@@ -0,0 +1,30 @@
+package com.codepresso.codepresso.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 헬퍼
+ * 메모리 캐시/카운터처럼 롤백되면 안 되는 반영을 커밋 이후로 미룰 때 사용
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 실행, 트랜잭션 밖이면 즉시 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
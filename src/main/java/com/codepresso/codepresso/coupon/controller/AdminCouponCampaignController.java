@@ -0,0 +1,56 @@
+package com.codepresso.codepresso.coupon.controller;
+
+import com.codepresso.codepresso.coupon.dto.CouponCampaignResponse;
+import com.codepresso.codepresso.coupon.service.CouponCampaignService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관리자 쿠폰 일괄 발급 캠페인
+ * */
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/coupon-campaigns")
+@RestController
+public class AdminCouponCampaignController {
+
+    private final CouponCampaignService couponCampaignService;
+
+    /**
+     * 캠페인 생성 (기간 내 주문 회원 전체에게 발급, 비동기 실행)
+     * POST /api/admin/coupon-campaigns?couponType=STAMP_REWARD&orderedFrom=2025-01-01&orderedTo=2025-01-31&validDays=30
+     * */
+    @PostMapping
+    public ResponseEntity<CouponCampaignResponse> createCampaign(
+            @RequestParam String couponType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate orderedFrom,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate orderedTo,
+            @RequestParam(defaultValue = "30") int validDays) {
+        return ResponseEntity.ok(couponCampaignService.createCampaign(couponType, orderedFrom, orderedTo, validDays));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CouponCampaignResponse>> getCampaigns() {
+        return ResponseEntity.ok(couponCampaignService.getCampaigns());
+    }
+
+    @GetMapping("/{campaignId}")
+    public ResponseEntity<CouponCampaignResponse> getCampaign(@PathVariable Long campaignId) {
+        return ResponseEntity.ok(couponCampaignService.getCampaign(campaignId));
+    }
+
+    @PostMapping("/{campaignId}/pause")
+    public ResponseEntity<Void> pause(@PathVariable Long campaignId) {
+        couponCampaignService.pause(campaignId);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{campaignId}/resume")
+    public ResponseEntity<CouponCampaignResponse> resume(@PathVariable Long campaignId) {
+        return ResponseEntity.ok(couponCampaignService.resume(campaignId));
+    }
+}
@@ -1,6 +1,7 @@
 package com.codepresso.codepresso.coupon.controller;
 
 
+import com.codepresso.codepresso.coupon.dto.StampHistoryResponse;
 import com.codepresso.codepresso.coupon.dto.StampResponse;
 import com.codepresso.codepresso.common.security.LoginUser;
 import com.codepresso.codepresso.coupon.service.StampService;
@@ -9,8 +10,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/stamp")
 @RequiredArgsConstructor
@@ -29,4 +33,15 @@ public class StampController {
         
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 스탬프 적립/교환 이력 (최신순, beforeId 로 다음 페이지)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<StampHistoryResponse>> getStampHistory(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(stampService.getStampHistory(loginUser.getMemberId(), beforeId, size));
+    }
 }
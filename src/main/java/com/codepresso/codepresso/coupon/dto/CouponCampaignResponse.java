@@ -0,0 +1,39 @@
+package com.codepresso.codepresso.coupon.dto;
+
+import com.codepresso.codepresso.coupon.entity.CouponCampaign;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class CouponCampaignResponse {
+    private Long campaignId;
+    private Long couponTypeId;
+    private LocalDateTime orderedFrom;
+    private LocalDateTime orderedTo;
+    private LocalDateTime expiryDate;
+    private CouponCampaign.Status status;
+    private Long checkpointMemberId;    // 이 회원 ID 까지 발급 완료
+    private Long issuedCount;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static CouponCampaignResponse from(CouponCampaign campaign) {
+        return CouponCampaignResponse.builder()
+                .campaignId(campaign.getId())
+                .couponTypeId(campaign.getCouponTypeId())
+                .orderedFrom(campaign.getOrderedFrom())
+                .orderedTo(campaign.getOrderedTo())
+                .expiryDate(campaign.getExpiryDate())
+                .status(campaign.getStatus())
+                .checkpointMemberId(campaign.getCheckpointMemberId())
+                .issuedCount(campaign.getIssuedCount())
+                .lastError(campaign.getLastError())
+                .createdAt(campaign.getCreatedAt())
+                .updatedAt(campaign.getUpdatedAt())
+                .build();
+    }
+}
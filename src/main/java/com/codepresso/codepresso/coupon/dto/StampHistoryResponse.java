@@ -0,0 +1,15 @@
+package com.codepresso.codepresso.coupon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+public class StampHistoryResponse {
+    private Long eventId;               // 다음 페이지 조회 시 beforeId 로 사용
+    private Long orderId;
+    private Integer delta;              // 적립 +, 쿠폰 교환 -10
+    private LocalDateTime createdAt;
+}
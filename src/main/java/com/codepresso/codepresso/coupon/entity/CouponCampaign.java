@@ -0,0 +1,62 @@
+package com.codepresso.codepresso.coupon.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 일괄 발급 캠페인
+ * 대상 : [orderedFrom, orderedTo) 기간에 주문한 회원 (회원 ID 순)
+ * checkpointMemberId 까지 발급 완료, 발급 chunk 와 같은 트랜잭션에서 갱신하므로 중단 후 이어서 진행
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "coupon_campaign")
+@Entity
+public class CouponCampaign {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "campaign_id")
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponTypeId;
+
+    @Column(name = "ordered_from", nullable = false)
+    private LocalDateTime orderedFrom;
+
+    @Column(name = "ordered_to", nullable = false)
+    private LocalDateTime orderedTo;
+
+    @Column(name = "expiry_date", nullable = false)
+    private LocalDateTime expiryDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    @Column(name = "checkpoint_member_id", nullable = false)
+    private long checkpointMemberId;
+
+    @Column(name = "issued_count", nullable = false)
+    private long issuedCount;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING,    // 생성됨 (실행 대기)
+        RUNNING,    // 발급 중 (서버 재시작 시 이어서 실행)
+        PAUSED,     // 관리자 일시정지
+        COMPLETED,
+        FAILED
+    }
+}
@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Getter @Setter
-@Table(name = "member_coupon")
+@Table(name = "member_coupon",
+        indexes = {
+                // 회원별 사용 가능 쿠폰 조회 (status 동등 조건), 만료 정리 대상
+                @Index(name = "idx_member_coupon_member_status_expiry", columnList = "member_id, status, expiry_date")
+        })
 @Entity
 public class MemberCoupon {
 
@@ -39,7 +43,8 @@ public class MemberCoupon {
 
     public enum CouponStatus {
         UNUSED, // 사용전
-        USED    // 사용후
+        USED,   // 사용후
+        EXPIRED // 기간 만료 (CouponExpirySweeper 가 UNUSED -> EXPIRED 전환)
     }
 
     // staus가 null일 경우 UNUSED로 자동 세팅 & 만료일 자동계산
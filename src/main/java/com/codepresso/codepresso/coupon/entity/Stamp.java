@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Getter @Setter
-@Table(name = "stamp")
+@Table(name = "stamp",
+        uniqueConstraints = {
+                // 회원당 한 행 (잔액 스냅샷), 압축 upsert(ON DUPLICATE KEY) 기준
+                @UniqueConstraint(name = "uk_stamp_member", columnNames = "member_id")
+        })
 @Entity
 public class Stamp {
 
@@ -29,5 +33,9 @@ public class Stamp {
 
     @Column(name = "quantity")
     private Integer quantity;
+
+    // compacted 플래그 도입 전 스냅샷 기준 이벤트 ID (이 ID 이하 이벤트를 압축 완료로 표시하는 데만 사용, 이후 갱신하지 않음)
+    @Column(name = "last_event_id")
+    private Long lastEventId;
 }
 
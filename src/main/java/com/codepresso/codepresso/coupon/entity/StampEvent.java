@@ -0,0 +1,53 @@
+package com.codepresso.codepresso.coupon.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스탬프 변경 이력 (append-only, 압축 여부 외 수정/삭제 없음)
+ * - 적립 : delta > 0, 주문 ID
+ * - 쿠폰 교환 : delta = -10, reward_seq (회원별 보상 쿠폰 순번, 중복 발급 방지)
+ * 잔액 = stamp(스냅샷).quantity + 아직 압축되지 않은(compacted = 0) delta 합
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "stamp_event",
+        indexes = {
+                // 회원별 잔액 계산 / 이력 조회 range scan
+                @Index(name = "idx_stamp_event_member_id", columnList = "member_id, stamp_event_id"),
+                // 회원별 미압축 이벤트 합산 (잔액)
+                @Index(name = "idx_stamp_event_member_compacted", columnList = "member_id, compacted"),
+                // 압축 대상 조회 (늦게 커밋된 낮은 ID 이벤트도 다시 찾음)
+                @Index(name = "idx_stamp_event_compacted", columnList = "compacted, stamp_event_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_stamp_event_member_reward", columnNames = {"member_id", "reward_seq"})
+        })
+@Entity
+public class StampEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stamp_event_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "delta", nullable = false)
+    private int delta;
+
+    @Column(name = "reward_seq")
+    private Integer rewardSeq;          // 쿠폰 교환 이벤트만 (적립은 null)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "compacted", nullable = false, columnDefinition = "boolean default false")
+    private boolean compacted;          // 스냅샷(stamp.quantity)에 반영되었는지
+}
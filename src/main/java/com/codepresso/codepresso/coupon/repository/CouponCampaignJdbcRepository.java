@@ -0,0 +1,82 @@
+package com.codepresso.codepresso.coupon.repository;
+
+import com.codepresso.codepresso.coupon.entity.CouponCampaign;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 쿠폰 캠페인 대상 스트리밍 / 일괄 발급 / 진행 위치 기록 (JDBC)
+ */
+@Repository
+public class CouponCampaignJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public CouponCampaignJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * [from, to) 기간 주문 회원을 hot/보관 테이블에서 회원 ID 순으로 스트리밍 (afterMemberId 초과)
+     * 두 테이블 모두 (member_id, order_date, order_id) 인덱스만 읽음 (orders_archive 는 orders 와 같은 구조)
+     * UNION 으로 두 테이블에 걸친 회원도 한 번만 나옴
+     */
+    public void streamTargetMembers(LocalDateTime from, LocalDateTime to, long afterMemberId, RowCallbackHandler handler) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+        streamingJdbcTemplate.query(
+                "SELECT member_id FROM orders " +
+                "WHERE member_id > ? AND order_date >= ? AND order_date < ? " +
+                "UNION " +
+                "SELECT member_id FROM orders_archive " +
+                "WHERE member_id > ? AND order_date >= ? AND order_date < ? " +
+                "ORDER BY member_id",
+                handler, afterMemberId, start, end, afterMemberId, start, end);
+    }
+
+    /**
+     * chunk 회원에게 쿠폰 발급 (INSERT ... SELECT 한 문장, 그 사이 탈퇴한 회원은 제외됨)
+     * @return 발급 수
+     */
+    public int insertCoupons(Long couponTypeId, List<Long> memberIds, LocalDateTime issuedDate, LocalDateTime expiryDate) {
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        List<Object> args = new ArrayList<>(memberIds.size() + 3);
+        args.add(couponTypeId);
+        args.add(Timestamp.valueOf(issuedDate));
+        args.add(Timestamp.valueOf(expiryDate));
+        args.addAll(memberIds);
+        return jdbcTemplate.update(
+                "INSERT INTO member_coupon (coupon_id, member_id, issued_date, expiry_date, status) " +
+                "SELECT ?, m.member_id, ?, ?, 'UNUSED' FROM member m WHERE m.member_id IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    /**
+     * 진행 위치 이동 (발급과 같은 트랜잭션)
+     * 기대한 위치에서만 이동하므로 같은 캠페인이 중복 실행되면 한쪽 chunk 는 롤백됨
+     * @return 갱신 행 수 (0 이면 다른 실행이 이미 진행)
+     */
+    public int advanceCheckpoint(Long campaignId, long expectedCheckpoint, long checkpoint, int issued) {
+        return jdbcTemplate.update(
+                "UPDATE coupon_campaign SET checkpoint_member_id = ?, issued_count = issued_count + ?, updated_at = ? " +
+                "WHERE campaign_id = ? AND checkpoint_member_id = ?",
+                checkpoint, issued, Timestamp.valueOf(LocalDateTime.now()), campaignId, expectedCheckpoint);
+    }
+
+    public void updateStatus(Long campaignId, CouponCampaign.Status status, String lastError) {
+        jdbcTemplate.update(
+                "UPDATE coupon_campaign SET status = ?, last_error = ?, updated_at = ? WHERE campaign_id = ?",
+                status.name(), lastError, Timestamp.valueOf(LocalDateTime.now()), campaignId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.codepresso.codepresso.coupon.repository;
+
+import com.codepresso.codepresso.coupon.entity.CouponCampaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CouponCampaignRepository extends JpaRepository<CouponCampaign, Long> {
+
+    // 서버 재시작 시 이어서 실행할 캠페인 (RUNNING, PENDING)
+    List<CouponCampaign> findByStatusOrderByIdAsc(CouponCampaign.Status status);
+
+    List<CouponCampaign> findAllByOrderByIdDesc();
+}
@@ -2,6 +2,7 @@ package com.codepresso.codepresso.coupon.repository;
 
 import com.codepresso.codepresso.coupon.entity.MemberCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,11 +11,8 @@ import java.util.List;
 
 public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long> {
 
-    // 사용 가능한 쿠폰 개수 조회
-    int countByMemberIdAndStatusAndExpiryDateAfter(Long memberId, MemberCoupon.CouponStatus couponStatus, LocalDateTime now);
-
-    // 사용 가능한 쿠폰 목록 조회 (기존 메서드 유지 - 호환성)
-    List<MemberCoupon> findByMemberIdAndStatusAndExpiryDateAfter(Long memberId, MemberCoupon.CouponStatus couponStatus, LocalDateTime now);
+    // 사용 가능한 쿠폰 개수 조회 (만료 쿠폰은 sweeper 가 EXPIRED 로 전환하므로 status 동등 조건만)
+    int countByMemberIdAndStatus(Long memberId, MemberCoupon.CouponStatus couponStatus);
 
     /**
      * 사용 가능한 쿠폰 목록 조회 - CouponType fetch join
@@ -23,10 +21,46 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
     @Query("SELECT mc FROM MemberCoupon mc " +
             "JOIN FETCH mc.couponType " +
             "WHERE mc.member.id = :memberId " +
-            "AND mc.status = :status " +
-            "AND mc.expiryDate > :now")
+            "AND mc.status = :status")
     List<MemberCoupon> findValidCouponsWithType(
             @Param("memberId") Long memberId,
-            @Param("status") MemberCoupon.CouponStatus status,
-            @Param("now") LocalDateTime now);
+            @Param("status") MemberCoupon.CouponStatus status);
+
+    /**
+     * 회원 쿠폰 사용 처리 (UNUSED 이고 만료 전인 경우에만, 동시에 같은 쿠폰을 쓰면 한 건만 성공)
+     */
+    @Modifying
+    @Query(value = "UPDATE member_coupon SET status = 'USED' " +
+            "WHERE member_coupon_id = :couponId AND member_id = :memberId " +
+            "AND status = 'UNUSED' AND expiry_date > :now",
+            nativeQuery = true)
+    int redeem(@Param("couponId") Long couponId, @Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 정리 대상 PK 범위
+     */
+    @Query("SELECT MIN(mc.id) FROM MemberCoupon mc")
+    Long findMinId();
+
+    @Query("SELECT MAX(mc.id) FROM MemberCoupon mc")
+    Long findMaxId();
+
+    /**
+     * PK 범위 (from, to] 에서 만료 전환될 쿠폰의 회원 (캐시 무효화용)
+     */
+    @Query(value = "SELECT DISTINCT member_id FROM member_coupon " +
+            "WHERE member_coupon_id > :from AND member_coupon_id <= :to " +
+            "AND status = 'UNUSED' AND expiry_date <= :now",
+            nativeQuery = true)
+    List<Long> findExpiringMemberIds(@Param("from") long from, @Param("to") long to, @Param("now") LocalDateTime now);
+
+    /**
+     * PK 범위 (from, to] 에서 만료일이 지난 미사용 쿠폰을 EXPIRED 로 전환
+     */
+    @Modifying
+    @Query(value = "UPDATE member_coupon SET status = 'EXPIRED' " +
+            "WHERE member_coupon_id > :from AND member_coupon_id <= :to " +
+            "AND status = 'UNUSED' AND expiry_date <= :now",
+            nativeQuery = true)
+    int expireRange(@Param("from") long from, @Param("to") long to, @Param("now") LocalDateTime now);
 }
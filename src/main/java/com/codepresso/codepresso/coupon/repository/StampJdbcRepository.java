@@ -0,0 +1,197 @@
+package com.codepresso.codepresso.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스탬프 이벤트 로그 / 스냅샷 / 보상 쿠폰 발급 JDBC 접근 (엔티티 로딩 없음)
+ * 적립은 stamp_event INSERT 만 하므로 회원 스탬프 행을 잠그지 않음, stamp 행과 compacted 플래그는 압축기만 갱신
+ */
+@Repository
+@RequiredArgsConstructor
+public class StampJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이력 한 건 (최신순 조회용)
+     */
+    public record EventRow(long eventId, Long orderId, int delta, LocalDateTime createdAt) {}
+
+    /**
+     * 압축 대상 이벤트 한 건
+     */
+    public record PendingEvent(long eventId, long memberId, int delta, LocalDateTime createdAt) {}
+
+    /**
+     * 압축 결과 : 회원별 delta 합
+     */
+    public record CompactRow(long memberId, int delta, LocalDateTime lastCreatedAt) {}
+
+    /**
+     * 스탬프 적립/차감 이벤트 추가
+     */
+    public void insertEvent(Long memberId, Long orderId, int delta, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO stamp_event (member_id, order_id, delta, created_at) VALUES (?, ?, ?, ?)",
+                memberId, orderId, delta, Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * 잔액 = 스냅샷 + 미압축 이벤트 합 (member_id, compacted 인덱스 range scan)
+     * 한 문장이므로 압축 트랜잭션 전/후 중 한쪽 상태만 읽음
+     */
+    public int balance(Long memberId) {
+        Integer balance = jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT quantity FROM stamp WHERE member_id = ?), 0) + " +
+                "  COALESCE((SELECT SUM(e.delta) FROM stamp_event e WHERE e.member_id = ? AND e.compacted = 0), 0)",
+                Integer.class, memberId, memberId);
+        return balance == null ? 0 : balance;
+    }
+
+    /**
+     * 회원의 마지막 보상 쿠폰 순번 (없으면 0)
+     */
+    public int maxRewardSeq(Long memberId) {
+        Integer seq = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(reward_seq), 0) FROM stamp_event WHERE member_id = ?",
+                Integer.class, memberId);
+        return seq == null ? 0 : seq;
+    }
+
+    /**
+     * 쿠폰 교환 이벤트 count 건 (순번 firstSeq ~) 을 한 문장으로 추가
+     * 동시 주문이 같은 순번을 잡으면 unique key 로 한쪽만 들어감
+     * @return 실제로 추가된 건수 (= 발급할 쿠폰 수)
+     */
+    public int insertRewardEvents(Long memberId, Long orderId, int firstSeq, int count,
+                                  int stampsPerReward, LocalDateTime createdAt) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT IGNORE INTO stamp_event (member_id, order_id, delta, reward_seq, created_at) VALUES ");
+        List<Object> args = new ArrayList<>(count * 5);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            args.add(memberId);
+            args.add(orderId);
+            args.add(-stampsPerReward);
+            args.add(firstSeq + i);
+            args.add(Timestamp.valueOf(createdAt));
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 보상 쿠폰 count 장을 한 문장(multi-row INSERT)으로 발급
+     */
+    public void insertCoupons(Long memberId, Long couponTypeId, int count,
+                              LocalDateTime issuedDate, LocalDateTime expiryDate) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO member_coupon (coupon_id, member_id, issued_date, expiry_date, status) VALUES ");
+        List<Object> args = new ArrayList<>(count * 4);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, 'UNUSED')" : ", (?, ?, ?, ?, 'UNUSED')");
+            args.add(couponTypeId);
+            args.add(memberId);
+            args.add(Timestamp.valueOf(issuedDate));
+            args.add(Timestamp.valueOf(expiryDate));
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 스탬프 이력 (최신순 keyset, beforeId 미만)
+     */
+    public List<EventRow> findHistory(Long memberId, long beforeId, int size) {
+        return jdbcTemplate.query(
+                "SELECT stamp_event_id, order_id, delta, created_at FROM stamp_event " +
+                "WHERE member_id = ? AND stamp_event_id < ? " +
+                "ORDER BY stamp_event_id DESC LIMIT ?",
+                (rs, rowNum) -> new EventRow(
+                        rs.getLong(1),
+                        rs.getObject(2, Long.class),
+                        rs.getInt(3),
+                        rs.getTimestamp(4).toLocalDateTime()),
+                memberId, beforeId, size);
+    }
+
+    /* ===== 압축 ===== */
+
+    /**
+     * compacted 플래그 도입 전 압축된 이벤트 표시 (stamp_event_id <= last_event_id)
+     * 이후 압축은 last_event_id 를 갱신하지 않으므로 여러 번 실행해도 결과가 같음
+     * @return 표시한 이벤트 수
+     */
+    public int markLegacyCompacted() {
+        return jdbcTemplate.update(
+                "UPDATE stamp_event e JOIN stamp s ON s.member_id = e.member_id " +
+                "SET e.compacted = 1 " +
+                "WHERE e.compacted = 0 AND e.stamp_event_id <= s.last_event_id");
+    }
+
+    /**
+     * 압축 대상 이벤트 잠금 (미압축, settledBefore 이전 생성, ID 순 limit 건)
+     * ID 위치가 아닌 플래그로 찾으므로 늦게 커밋된 낮은 ID 이벤트도 다음 실행에서 압축됨
+     * 다른 실행이 잠근 행은 건너뛰어 같은 이벤트를 두 번 더하지 않음
+     */
+    public List<PendingEvent> lockPendingEvents(LocalDateTime settledBefore, int limit) {
+        return jdbcTemplate.query(
+                "SELECT stamp_event_id, member_id, delta, created_at FROM stamp_event " +
+                "WHERE compacted = 0 AND created_at < ? " +
+                "ORDER BY stamp_event_id LIMIT ? " +
+                "FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new PendingEvent(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getInt(3),
+                        rs.getTimestamp(4).toLocalDateTime()),
+                Timestamp.valueOf(settledBefore), limit);
+    }
+
+    /**
+     * 압축 완료 표시 (스냅샷 갱신과 같은 트랜잭션)
+     */
+    public void markCompacted(List<Long> eventIds) {
+        String placeholders = String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+        jdbcTemplate.update(
+                "UPDATE stamp_event SET compacted = 1 WHERE stamp_event_id IN (" + placeholders + ")",
+                eventIds.toArray());
+    }
+
+    /**
+     * 스냅샷 갱신 (잔액 += delta, 마지막 적립일은 더 최근 값 유지)
+     */
+    public void upsertSnapshots(List<CompactRow> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO stamp (member_id, quantity, earned_date) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), " +
+                "  earned_date = GREATEST(COALESCE(earned_date, VALUES(earned_date)), VALUES(earned_date))",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.memberId());
+                    ps.setInt(2, row.delta());
+                    ps.setTimestamp(3, Timestamp.valueOf(row.lastCreatedAt()));
+                });
+    }
+
+    /**
+     * 스냅샷 잔액이 threshold 이상인 회원 (동시 주문으로 교환이 누락된 경우 보정용)
+     */
+    public List<Long> findMembersWithBalanceAtLeast(Collection<Long> memberIds, int threshold) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        List<Object> args = new ArrayList<>(memberIds);
+        args.add(threshold);
+        return jdbcTemplate.queryForList(
+                "SELECT member_id FROM stamp WHERE member_id IN (" + placeholders + ") AND quantity >= ?",
+                Long.class, args.toArray());
+    }
+}
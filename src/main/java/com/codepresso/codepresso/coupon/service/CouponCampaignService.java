@@ -0,0 +1,316 @@
+package com.codepresso.codepresso.coupon.service;
+
+import com.codepresso.codepresso.common.config.CouponCampaignConfig;
+import com.codepresso.codepresso.common.reference.ReferenceDataRegistry;
+import com.codepresso.codepresso.coupon.dto.CouponCampaignResponse;
+import com.codepresso.codepresso.coupon.entity.CouponCampaign;
+import com.codepresso.codepresso.coupon.repository.CouponCampaignJdbcRepository;
+import com.codepresso.codepresso.coupon.repository.CouponCampaignRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 일괄 발급 캠페인
+ * - 대상 회원은 스트리밍 조회, chunk 마다 INSERT ... SELECT 한 문장 + 진행 위치 기록을 한 트랜잭션으로 처리
+ * - 캠페인은 전용 스레드 하나에서 순서대로 실행, 서버 재시작 시 RUNNING 캠페인은 진행 위치부터 이어서 실행
+ * - 초당 발급 수 제한, 진행 상황은 Micrometer (coupon.campaign.*) 로 노출
+ */
+@Slf4j
+@Service
+public class CouponCampaignService {
+
+    private final CouponCampaignRepository couponCampaignRepository;
+    private final CouponCampaignJdbcRepository couponCampaignJdbcRepository;
+    private final CouponService couponService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final CouponCampaignConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter issuedCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong runningCampaignId = new AtomicLong();
+    private final AtomicLong runningIssued = new AtomicLong();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "coupon-campaign"));
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pauseRequested = ConcurrentHashMap.newKeySet();
+
+    public CouponCampaignService(CouponCampaignRepository couponCampaignRepository,
+                                 CouponCampaignJdbcRepository couponCampaignJdbcRepository,
+                                 CouponService couponService,
+                                 ReferenceDataRegistry referenceDataRegistry,
+                                 CouponCampaignConfig config,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.couponCampaignRepository = couponCampaignRepository;
+        this.couponCampaignJdbcRepository = couponCampaignJdbcRepository;
+        this.couponService = couponService;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.issuedCounter = Counter.builder("coupon.campaign.issued")
+                .description("캠페인으로 발급한 쿠폰 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("coupon.campaign.chunk.duration")
+                .description("캠페인 chunk 발급 트랜잭션 시간")
+                .register(meterRegistry);
+        Gauge.builder("coupon.campaign.running.id", runningCampaignId, AtomicLong::get)
+                .description("실행 중인 캠페인 ID (0 = 없음)")
+                .register(meterRegistry);
+        Gauge.builder("coupon.campaign.running.issued", runningIssued, AtomicLong::get)
+                .description("실행 중인 캠페인의 누적 발급 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캠페인 생성 후 실행 대기열에 등록
+     * @param couponType 쿠폰 타입 코드 (coupon_type.coupon_type)
+     * @param orderedFrom 대상 주문 기간 시작일 (포함)
+     * @param orderedTo 대상 주문 기간 종료일 (포함)
+     * @param validDays 발급일로부터 유효 기간 (일)
+     */
+    public CouponCampaignResponse createCampaign(String couponType, LocalDate orderedFrom, LocalDate orderedTo, int validDays) {
+        ReferenceDataRegistry.CouponTypeRef ref = referenceDataRegistry.getCouponType(couponType);
+        if (ref == null) {
+            throw new IllegalArgumentException("존재하지 않는 쿠폰 타입입니다: " + couponType);
+        }
+        if (orderedFrom == null || orderedTo == null || orderedTo.isBefore(orderedFrom)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (validDays <= 0) {
+            throw new IllegalArgumentException("유효 기간은 1일 이상이어야 합니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        CouponCampaign campaign = couponCampaignRepository.save(CouponCampaign.builder()
+                .couponTypeId(ref.id())
+                .orderedFrom(orderedFrom.atStartOfDay())
+                .orderedTo(orderedTo.plusDays(1).atStartOfDay())
+                .expiryDate(now.plusDays(validDays))
+                .status(CouponCampaign.Status.PENDING)
+                .checkpointMemberId(0L)
+                .issuedCount(0L)
+                .createdAt(now)
+                .build());
+
+        submit(campaign.getId());
+        return CouponCampaignResponse.from(campaign);
+    }
+
+    /**
+     * 일시정지/실패한 캠페인 재개 (진행 위치부터)
+     */
+    public CouponCampaignResponse resume(Long campaignId) {
+        CouponCampaign campaign = getCampaignEntity(campaignId);
+        if (campaign.getStatus() == CouponCampaign.Status.COMPLETED) {
+            throw new IllegalArgumentException("이미 완료된 캠페인입니다.");
+        }
+        pauseRequested.remove(campaignId);
+        submit(campaignId);
+        return CouponCampaignResponse.from(campaign);
+    }
+
+    /**
+     * 일시정지 요청 (진행 중인 chunk 커밋 후 멈춤)
+     */
+    public void pause(Long campaignId) {
+        getCampaignEntity(campaignId);
+        pauseRequested.add(campaignId);
+    }
+
+    public CouponCampaignResponse getCampaign(Long campaignId) {
+        return CouponCampaignResponse.from(getCampaignEntity(campaignId));
+    }
+
+    public List<CouponCampaignResponse> getCampaigns() {
+        return couponCampaignRepository.findAllByOrderByIdDesc().stream()
+                .map(CouponCampaignResponse::from)
+                .toList();
+    }
+
+    /**
+     * 서버 재시작 시 중단/대기 중이던 캠페인 이어서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        try {
+            for (CouponCampaign.Status status : List.of(CouponCampaign.Status.RUNNING, CouponCampaign.Status.PENDING)) {
+                for (CouponCampaign campaign : couponCampaignRepository.findByStatusOrderByIdAsc(status)) {
+                    log.info("[CouponCampaign] resume campaign={}, status={}, checkpoint={}",
+                            campaign.getId(), status, campaign.getCheckpointMemberId());
+                    submit(campaign.getId());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[CouponCampaign] resume failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Long campaignId) {
+        if (queued.add(campaignId)) {
+            executor.submit(() -> {
+                try {
+                    run(campaignId);
+                } finally {
+                    queued.remove(campaignId);
+                }
+            });
+        }
+    }
+
+    private CouponCampaign getCampaignEntity(Long campaignId) {
+        return couponCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 캠페인입니다."));
+    }
+
+    /**
+     * 캠페인 실행 (전용 스레드)
+     */
+    private void run(Long campaignId) {
+        CouponCampaign campaign = couponCampaignRepository.findById(campaignId).orElse(null);
+        if (campaign == null || campaign.getStatus() == CouponCampaign.Status.COMPLETED) {
+            return;
+        }
+
+        couponCampaignJdbcRepository.updateStatus(campaignId, CouponCampaign.Status.RUNNING, null);
+        runningCampaignId.set(campaignId);
+        runningIssued.set(campaign.getIssuedCount());
+        log.info("[CouponCampaign] start campaign={}, checkpoint={}", campaignId, campaign.getCheckpointMemberId());
+
+        Run run = new Run(campaign);
+        try {
+            couponCampaignJdbcRepository.streamTargetMembers(campaign.getOrderedFrom(), campaign.getOrderedTo(),
+                    campaign.getCheckpointMemberId(), rs -> run.add(rs.getLong(1)));
+            run.flush();
+            couponCampaignJdbcRepository.updateStatus(campaignId, CouponCampaign.Status.COMPLETED, null);
+            log.info("[CouponCampaign] completed campaign={}, issued={}", campaignId, run.issued);
+        } catch (PausedException e) {
+            couponCampaignJdbcRepository.updateStatus(campaignId, CouponCampaign.Status.PAUSED, null);
+            log.info("[CouponCampaign] paused campaign={}, checkpoint={}", campaignId, run.checkpoint);
+        } catch (ShutdownException e) {
+            // RUNNING 상태 유지 -> 다음 서버 시작 시 이어서 실행
+            log.info("[CouponCampaign] stopped by shutdown campaign={}, checkpoint={}", campaignId, run.checkpoint);
+        } catch (Exception e) {
+            String message = String.valueOf(e.getMessage());
+            couponCampaignJdbcRepository.updateStatus(campaignId, CouponCampaign.Status.FAILED,
+                    message.length() > 500 ? message.substring(0, 500) : message);
+            log.error("[CouponCampaign] failed campaign={}, checkpoint={}", campaignId, run.checkpoint, e);
+        } finally {
+            pauseRequested.remove(campaignId);
+            runningCampaignId.set(0L);
+        }
+    }
+
+    /**
+     * 실행 한 번의 상태 : chunk 버퍼, 진행 위치, 속도 제한
+     */
+    private final class Run {
+        private final CouponCampaign campaign;
+        private final List<Long> buffer;
+        private final long startNanos = System.nanoTime();
+        private long checkpoint;
+        private long issued;
+
+        Run(CouponCampaign campaign) {
+            this.campaign = campaign;
+            this.buffer = new ArrayList<>(chunkSize());
+            this.checkpoint = campaign.getCheckpointMemberId();
+        }
+
+        void add(long memberId) {
+            buffer.add(memberId);
+            if (buffer.size() >= chunkSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            if (pauseRequested.contains(campaign.getId())) {
+                throw new PausedException();
+            }
+
+            long from = checkpoint;
+            long to = buffer.get(buffer.size() - 1);
+            List<Long> memberIds = List.copyOf(buffer);
+            Integer count = chunkTimer.record(() -> transactionTemplate.execute(status -> {
+                int inserted = couponCampaignJdbcRepository.insertCoupons(campaign.getCouponTypeId(), memberIds,
+                        LocalDateTime.now(), campaign.getExpiryDate());
+                if (couponCampaignJdbcRepository.advanceCheckpoint(campaign.getId(), from, to, inserted) == 0) {
+                    throw new IllegalStateException("캠페인 진행 위치가 변경되었습니다 (중복 실행).");
+                }
+                memberIds.forEach(couponService::evictValidCoupons);
+                return inserted;
+            }));
+
+            int inserted = count == null ? 0 : count;
+            checkpoint = to;
+            issued += inserted;
+            buffer.clear();
+            issuedCounter.increment(inserted);
+            runningIssued.addAndGet(inserted);
+            throttle();
+        }
+
+        // 처리한 건수 기준으로 rowsPerSecond 보다 앞서 있으면 그만큼 대기
+        private void throttle() {
+            if (config.getRowsPerSecond() <= 0) {
+                return;
+            }
+            long expectedNanos = issued * 1_000_000_000L / config.getRowsPerSecond();
+            long aheadMillis = (expectedNanos - (System.nanoTime() - startNanos)) / 1_000_000L;
+            if (aheadMillis > 0) {
+                try {
+                    Thread.sleep(aheadMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ShutdownException();
+                }
+            }
+        }
+    }
+
+    private int chunkSize() {
+        int chunkSize = Math.max(config.getChunkSize(), 1);
+        return config.getRowsPerSecond() > 0 ? Math.min(chunkSize, config.getRowsPerSecond()) : chunkSize;
+    }
+
+    private static final class PausedException extends RuntimeException {
+        PausedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class ShutdownException extends RuntimeException {
+        ShutdownException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.codepresso.codepresso.coupon.service;
+
+import com.codepresso.codepresso.common.config.CouponExpiryConfig;
+import com.codepresso.codepresso.coupon.repository.MemberCouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료 쿠폰 정리
+ * - 만료일이 지난 UNUSED 쿠폰을 EXPIRED 로 전환, 사용 가능 쿠폰 조회는 status 동등 조건만 사용
+ * - PK 범위 (from, to] chunk 마다 별도 트랜잭션 (한 번에 잠그는 행 수 제한)
+ * - 정리 주기 사이에 만료된 쿠폰은 사용 시 만료일 검증으로 거부
+ * - 전환된 쿠폰의 회원은 커밋 후 사용 가능 쿠폰 캐시 무효화
+ */
+@Slf4j
+@Service
+public class CouponExpirySweeper {
+
+    private final MemberCouponRepository memberCouponRepository;
+    private final CouponService couponService;
+    private final CouponExpiryConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    public CouponExpirySweeper(MemberCouponRepository memberCouponRepository,
+                               CouponService couponService,
+                               CouponExpiryConfig config,
+                               PlatformTransactionManager transactionManager) {
+        this.memberCouponRepository = memberCouponRepository;
+        this.couponService = couponService;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.coupon.expiry.cron:0 5 * * * *}")
+    public void scheduledSweep() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("[CouponExpiry] failed", e);
+        }
+    }
+
+    /**
+     * 만료 정리 실행
+     * @return EXPIRED 로 전환한 쿠폰 수
+     */
+    public int sweep() {
+        Long minId = memberCouponRepository.findMinId();
+        Long maxId = memberCouponRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        for (long from = minId - 1; from < maxId; from += config.getChunkSize()) {
+            long lower = from;
+            long upper = Math.min(from + config.getChunkSize(), maxId);
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> memberIds = memberCouponRepository.findExpiringMemberIds(lower, upper, now);
+                if (memberIds.isEmpty()) {
+                    return 0;
+                }
+                memberIds.forEach(couponService::evictValidCoupons);
+                return memberCouponRepository.expireRange(lower, upper, now);
+            });
+            expired += count == null ? 0 : count;
+        }
+
+        log.info("[CouponExpiry] range=({}, {}], expired={}", minId - 1, maxId, expired);
+        return expired;
+    }
+}
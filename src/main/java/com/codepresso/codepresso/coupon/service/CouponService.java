@@ -1,39 +1,49 @@
 package com.codepresso.codepresso.coupon.service;
 
-import com.codepresso.codepresso.coupon.repository.CouponTypeRepository;
+import com.codepresso.codepresso.common.reference.ReferenceDataRegistry;
+import com.codepresso.codepresso.common.transaction.TransactionCallbacks;
 import com.codepresso.codepresso.coupon.repository.MemberCouponRepository;
 import com.codepresso.codepresso.coupon.dto.CouponResponse;
 import com.codepresso.codepresso.coupon.entity.CouponType;
 import com.codepresso.codepresso.coupon.entity.MemberCoupon;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CouponService {
-    private final CouponTypeRepository couponTypeRepository;
     private final MemberCouponRepository memberCouponRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    // 회원별 사용 가능 쿠폰 (발급/사용/만료 정리 커밋 후 무효화)
+    private final Cache<Long, List<CouponResponse>> validCouponCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
 
     /**
-     * 스탬프 적립용 기본 쿠폰 타입 조회
+     * 스탬프 적립용 기본 쿠폰 타입 ID (기준 데이터 레지스트리 조회)
      * */
-    public CouponType getDefaultStampCoupon() {
-        return couponTypeRepository.findByCouponType("STAMP_REWARD")
-                .orElseThrow(() -> new IllegalArgumentException("Default Stamp Coupon Type is not exist"));
+    public Long getDefaultStampCouponId() {
+        ReferenceDataRegistry.CouponTypeRef couponType = referenceDataRegistry.getCouponType(ReferenceDataRegistry.STAMP_REWARD);
+        if (couponType == null) {
+            throw new IllegalArgumentException("Default Stamp Coupon Type is not exist");
+        }
+        return couponType.id();
     }
 
     /**
      * 회원의 사용 가능한 쿠폰 개수 조회
      * */
     public int getMemberValidCouponCount(Long memberId) {
-        // status = UNUSED && 만료일이 지나지 않은 것
-        return memberCouponRepository.countByMemberIdAndStatusAndExpiryDateAfter(
-                memberId, MemberCoupon.CouponStatus.UNUSED, LocalDateTime.now());
+        return getMemberValidCoupons(memberId).size();
     }
 
     /**
@@ -41,13 +51,35 @@ public class CouponService {
      * */
     @Transactional(readOnly = true)
     public List<CouponResponse> getMemberValidCoupons(Long memberId) {
+        List<CouponResponse> cached = validCouponCache.get(memberId, this::loadValidCoupons);
+
+        // 만료 정리 주기 사이에 만료된 쿠폰 제외
+        LocalDateTime now = LocalDateTime.now();
+        for (CouponResponse coupon : cached) {
+            if (coupon.getExpiryDate() != null && !coupon.getExpiryDate().isAfter(now)) {
+                return cached.stream()
+                        .filter(c -> c.getExpiryDate() == null || c.getExpiryDate().isAfter(now))
+                        .toList();
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * 회원 쿠폰 변경 시 캐시 무효화 (트랜잭션 안이면 커밋 후)
+     * */
+    public void evictValidCoupons(Long memberId) {
+        TransactionCallbacks.afterCommit(() -> validCouponCache.invalidate(memberId));
+    }
+
+    // status = UNUSED (만료된 쿠폰은 CouponExpirySweeper 가 EXPIRED 로 전환)
+    private List<CouponResponse> loadValidCoupons(Long memberId) {
         List<MemberCoupon> validCoupons = memberCouponRepository
-                .findByMemberIdAndStatusAndExpiryDateAfter(
-                memberId, MemberCoupon.CouponStatus.UNUSED, LocalDateTime.now());
+                .findValidCouponsWithType(memberId, MemberCoupon.CouponStatus.UNUSED);
 
         return validCoupons.stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     /**
@@ -59,8 +91,9 @@ public class CouponService {
             throw new IllegalStateException("Coupon Status is used");
         }
 
-        // 만료된 쿠폰인지 확인
-        if(coupon.getExpiryDate().isBefore(LocalDateTime.now())) {
+        // 만료된 쿠폰인지 확인 (sweeper 가 아직 전환하지 않은 쿠폰도 만료일로 확인)
+        if(coupon.getStatus().equals(MemberCoupon.CouponStatus.EXPIRED)
+                || coupon.getExpiryDate().isBefore(LocalDateTime.now())) {
             throw new IllegalStateException("Coupon Expiry Date is invalid");
         }
     }
@@ -69,7 +102,12 @@ public class CouponService {
      * 쿠폰 타입별 할인금액 계산
      * */
     private int calculateCouponDiscountAmount(CouponType couponType,int totalAmount) {
-        String type = couponType.getCouponType();
+        // 쿠폰 타입 코드는 레지스트리에서 조회 (CouponType 지연 로딩 없음)
+        ReferenceDataRegistry.CouponTypeRef ref = referenceDataRegistry.getCouponType(couponType.getId());
+        String type = ref != null ? ref.code() : couponType.getCouponType();
+        if (type == null) {
+            return 0;
+        }
 
         switch (type) {
             case "STAMP_REWARD":
@@ -104,6 +142,19 @@ public class CouponService {
         validateCoupon(coupon);
         coupon.setStatus(MemberCoupon.CouponStatus.USED);
         memberCouponRepository.save(coupon);
+        evictValidCoupons(coupon.getMember().getId());
+    }
+
+    /**
+     * 결제 견적에 서명된 쿠폰 사용 처리 (UNUSED -> USED, 조건부 UPDATE 한 문장)
+     * 이미 사용/만료되었거나 다른 회원 쿠폰이면 예외 -> 결제 트랜잭션 롤백
+     * */
+    @Transactional
+    public void redeemCoupon(Long memberId, Long couponId) {
+        if (memberCouponRepository.redeem(couponId, memberId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("사용할 수 없는 쿠폰입니다. 다시 결제를 진행해주세요.");
+        }
+        evictValidCoupons(memberId);
     }
 
     /**
@@ -121,5 +172,4 @@ public class CouponService {
                 .discountAmount(discountAmount)
                 .build();
     }
-
 }
@@ -0,0 +1,126 @@
+package com.codepresso.codepresso.coupon.service;
+
+import com.codepresso.codepresso.common.config.StampLedgerConfig;
+import com.codepresso.codepresso.coupon.repository.StampJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스탬프 이벤트 -> 잔액 스냅샷 압축
+ * - 미압축(compacted = 0) 이벤트를 ID 순 chunk 단위로 잠가 회원별 합산, stamp(스냅샷) 에 더하고 압축 완료 표시, chunk마다 별도 트랜잭션
+ * - 위치(커서)가 아닌 플래그로 찾으므로 ID 를 먼저 받고 늦게 커밋된 이벤트도 다음 실행에서 압축됨 (건너뛰지 않음)
+ * - 압축 후 잔액이 10개 이상 남은 회원은 쿠폰 교환 보정
+ */
+@Slf4j
+@Service
+public class StampCompactor {
+
+    private static final int STAMPS_PER_COUPON = 10;
+
+    private final StampJdbcRepository stampJdbcRepository;
+    private final StampService stampService;
+    private final StampLedgerConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    // compacted 플래그 도입 전 압축분 표시 여부 (최초 실행 시 한 번)
+    private boolean legacyMarked;
+
+    private record Chunk(int events, List<Long> members) {}
+
+    public StampCompactor(StampJdbcRepository stampJdbcRepository,
+                          StampService stampService,
+                          StampLedgerConfig config,
+                          PlatformTransactionManager transactionManager) {
+        this.stampJdbcRepository = stampJdbcRepository;
+        this.stampService = stampService;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stamp.ledger.compact-interval-ms:60000}")
+    public void scheduledCompact() {
+        try {
+            compact();
+        } catch (Exception e) {
+            log.error("[StampCompactor] failed", e);
+        }
+    }
+
+    /**
+     * 압축 실행
+     * @return 스냅샷을 갱신한 회원 수 (chunk 합계)
+     */
+    public synchronized int compact() {
+        if (!legacyMarked) {
+            int marked = stampJdbcRepository.markLegacyCompacted();
+            legacyMarked = true;
+            if (marked > 0) {
+                log.info("[StampCompactor] marked {} legacy events as compacted", marked);
+            }
+        }
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(config.getSettleSeconds());
+
+        int updated = 0;
+        List<Long> rewardCandidates = new ArrayList<>();
+        while (true) {
+            Chunk chunk = transactionTemplate.execute(status -> compactChunk(settledBefore));
+            updated += chunk.members().size();
+            rewardCandidates.addAll(stampJdbcRepository.findMembersWithBalanceAtLeast(chunk.members(), STAMPS_PER_COUPON));
+            // 마지막 chunk (이번 실행 이후 들어온 이벤트는 다음 주기에)
+            if (chunk.events() < config.getChunkSize()) {
+                break;
+            }
+        }
+
+        for (Long memberId : rewardCandidates) {
+            try {
+                stampService.issueRewards(memberId, null);
+            } catch (Exception e) {
+                log.warn("[StampCompactor] reward settle failed: memberId={}", memberId, e);
+            }
+        }
+
+        if (updated > 0) {
+            log.info("[StampCompactor] members={}, rewardSettled={}", updated, rewardCandidates.size());
+        }
+        return updated;
+    }
+
+    /**
+     * chunk 하나 압축 (트랜잭션 안)
+     * 이벤트 잠금 -> 회원별 합산 -> 스냅샷 갱신 -> 압축 완료 표시
+     */
+    private Chunk compactChunk(LocalDateTime settledBefore) {
+        List<StampJdbcRepository.PendingEvent> events =
+                stampJdbcRepository.lockPendingEvents(settledBefore, config.getChunkSize());
+        if (events.isEmpty()) {
+            return new Chunk(0, List.of());
+        }
+
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        Map<Long, LocalDateTime> lastCreated = new HashMap<>();
+        List<Long> eventIds = new ArrayList<>(events.size());
+        for (StampJdbcRepository.PendingEvent event : events) {
+            deltas.computeIfAbsent(event.memberId(), k -> new int[1])[0] += event.delta();
+            lastCreated.merge(event.memberId(), event.createdAt(), (a, b) -> a.isAfter(b) ? a : b);
+            eventIds.add(event.eventId());
+        }
+
+        List<StampJdbcRepository.CompactRow> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((memberId, delta) ->
+                rows.add(new StampJdbcRepository.CompactRow(memberId, delta[0], lastCreated.get(memberId))));
+        stampJdbcRepository.upsertSnapshots(rows);
+        stampJdbcRepository.markCompacted(eventIds);
+        return new Chunk(events.size(), new ArrayList<>(deltas.keySet()));
+    }
+}
@@ -1,99 +1,101 @@
 package com.codepresso.codepresso.coupon.service;
 
-import com.codepresso.codepresso.coupon.repository.MemberCouponRepository;
-import com.codepresso.codepresso.coupon.repository.StampRepository;
-import com.codepresso.codepresso.coupon.entity.CouponType;
-import com.codepresso.codepresso.coupon.entity.MemberCoupon;
-import com.codepresso.codepresso.coupon.entity.Stamp;
-import com.codepresso.codepresso.member.entity.Member;
+import com.codepresso.codepresso.coupon.dto.StampHistoryResponse;
+import com.codepresso.codepresso.coupon.repository.StampJdbcRepository;
 import com.codepresso.codepresso.order.entity.OrdersDetail;
-import com.codepresso.codepresso.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * 스탬프 (append-only 이벤트 로그 + 주기적 잔액 스냅샷)
+ * - 적립/교환은 stamp_event INSERT 만 하므로 같은 회원 행을 두고 경합하지 않음
+ * - 잔액은 스냅샷 + 미압축 이벤트 합, 스냅샷은 StampCompactor 가 갱신
+ */
 @Service
 @RequiredArgsConstructor
 public class StampService {
-    private final MemberRepository memberRepository;
-    private final StampRepository stampRepository;
-    private final MemberCouponRepository memberCouponRepository;
+    private final StampJdbcRepository stampJdbcRepository;
     private final CouponService couponService;
 
+    private static final int STAMPS_PER_COUPON = 10;
+    private static final int COUPON_VALID_MONTHS = 6;   // MemberCoupon 발급일로부터 6개월
+    private static final int MAX_HISTORY_SIZE = 100;
+
     /**
-     * 주문으로부터 스탬프 적립 ( quantity update )
+     * 주문으로부터 스탬프 적립 + 보상 쿠폰 발급
+     * 스탬프 10개마다 쿠폰 1장 (교환 이벤트 -10), 남은 스탬프만 유지 (25개 -> 쿠폰 2장 + 스탬프 5개)
      * */
     @Transactional
-    public void earnStampsFromOrder(Long memberId, List<OrdersDetail> ordersDetails) {
-        // 1.회원 조회
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
-
-        // 2. 적립할 스탬프 수 계산
-        int totalEarnedStamps = 0;
+    public void earnStampsFromOrder(Long memberId, Long orderId, List<OrdersDetail> ordersDetails) {
+        // 1. 적립할 스탬프 수 계산
+        int earnedStamps = 0;
         for (OrdersDetail ordersDetail : ordersDetails) {
-            totalEarnedStamps += ordersDetail.getQuantity();
+            earnedStamps += ordersDetail.getQuantity();
+        }
+        if (earnedStamps <= 0) {
+            return;
         }
 
-        // 기존 스탬프 찾기
-        Optional<Stamp> existingStamp = stampRepository.findByMember(member);
-
-        if (existingStamp.isPresent()) {
-            // 기존 스탬프가 있다면 quantity 증가
-            Stamp stamp = existingStamp.get();
-            int updateStamp = stamp.getQuantity() +  totalEarnedStamps;
-            stamp.setQuantity(updateStamp);
+        // 2. 적립 이벤트 추가
+        stampJdbcRepository.insertEvent(memberId, orderId, earnedStamps, LocalDateTime.now());
 
-            stampRepository.save(stamp);
-        }else{
-            // 없다면 새로 생성
-            Stamp stamp = Stamp.builder()
-                    .member(member)
-                    .quantity(totalEarnedStamps)
-                    .earnedDate(LocalDateTime.now())
-                    .build();
+        // 3. 잔액 기준 쿠폰 교환
+        issueRewards(memberId, orderId);
+    }
 
-            stampRepository.save(stamp);
+    /**
+     * 잔액이 10개 이상이면 10개마다 쿠폰 교환 이벤트 + 쿠폰 발급
+     * 동시 주문으로 같은 순번을 잡으면 한쪽만 발급되고, 남은 잔액은 다음 적립/압축 때 교환
+     * @return 발급한 쿠폰 수
+     * */
+    @Transactional
+    public int issueRewards(Long memberId, Long orderId) {
+        int couponCount = stampJdbcRepository.balance(memberId) / STAMPS_PER_COUPON;
+        if (couponCount <= 0) {
+            return 0;
         }
 
-        issueCoupon(memberId);
+        LocalDateTime now = LocalDateTime.now();
+        int firstSeq = stampJdbcRepository.maxRewardSeq(memberId) + 1;
+        int issued = stampJdbcRepository.insertRewardEvents(memberId, orderId, firstSeq, couponCount,
+                STAMPS_PER_COUPON, now);
+        if (issued > 0) {
+            stampJdbcRepository.insertCoupons(memberId, couponService.getDefaultStampCouponId(), issued,
+                    now, now.plusMonths(COUPON_VALID_MONTHS));
+            couponService.evictValidCoupons(memberId);
+        }
+        return issued;
     }
 
     /**
      * 회원의 현재 스탬프 수 조회
      * */
     public int getMemberStamp(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
-        
-        Optional<Stamp> stampOpt = stampRepository.findByMember(member);
-        
-        return stampOpt.map(Stamp::getQuantity).orElse(0);
+        return stampJdbcRepository.balance(memberId);
     }
 
-    private void issueCoupon(Long memberId){
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
-
-        Optional<Stamp> stampOpt = stampRepository.findByMember(member);
-
-        if (stampOpt.isPresent() && stampOpt.get().getQuantity()>=10) {
-            CouponType defaulCouponType = couponService.getDefaultStampCoupon();
-
-            MemberCoupon coupon = MemberCoupon.builder()
-                    .member(member)
-                    .couponType(defaulCouponType)
-                    .issuedDate(LocalDateTime.now())
-                    .build();
-            memberCouponRepository.save(coupon);
-
-            Stamp stamp = stampOpt.get();
-            stamp.setQuantity(stamp.getQuantity() - 10);
-            stampRepository.save(stamp);
+    /**
+     * 스탬프 이력 (최신순, beforeId 이전)
+     * */
+    public List<StampHistoryResponse> getStampHistory(Long memberId, Long beforeId, int size) {
+        long before = beforeId == null ? Long.MAX_VALUE : beforeId;
+        int limit = Math.min(Math.max(size, 1), MAX_HISTORY_SIZE);
+
+        List<StampJdbcRepository.EventRow> rows = stampJdbcRepository.findHistory(memberId, before, limit);
+        List<StampHistoryResponse> result = new ArrayList<>(rows.size());
+        for (StampJdbcRepository.EventRow row : rows) {
+            result.add(StampHistoryResponse.builder()
+                    .eventId(row.eventId())
+                    .orderId(row.orderId())
+                    .delta(row.delta())
+                    .createdAt(row.createdAt())
+                    .build());
         }
+        return result;
     }
 }
@@ -1,6 +1,7 @@
 package com.codepresso.codepresso.member.controller;
 
 import com.codepresso.codepresso.common.response.AuthResponse;
+import com.codepresso.codepresso.member.dto.FavoriteBatchRequest;
 import com.codepresso.codepresso.member.dto.FavoriteListResponse;
 import com.codepresso.codepresso.member.dto.FavoriteRequest;
 import com.codepresso.codepresso.common.security.LoginUser;
@@ -12,7 +13,7 @@ import org.springframework.web.bind.annotation.*;
 
 /**
  * 즐겨찾기 관련 RESTful API 컨트롤러
- * 즐겨찾기추가, 즐겨찾기목록, 즐겨찾기삭제 API 엔드포인트 제공
+ * 즐겨찾기추가, 즐겨찾기목록, 즐겨찾기삭제, 일괄 추가/삭제, 순서 변경 API 엔드포인트 제공
  */
 @RestController
 @RequestMapping("/users")
@@ -40,15 +41,50 @@ public class FavoriteApiController {
 
     /**
      * 즐겨찾기 목록 조회 API
+     * 다음 페이지는 응답의 nextOrderby, nextProductId 를 커서로 전달
      */
     @GetMapping("/favorites")
     public ResponseEntity<FavoriteListResponse> getFavoriteList(
-            @AuthenticationPrincipal LoginUser loginUser) {
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestParam(required = false) Integer cursorOrderby,
+            @RequestParam(required = false) Long cursorProductId,
+            @RequestParam(defaultValue = "20") int size) {
         Long memberId = loginUser.getMemberId();
-        FavoriteListResponse response = favoriteService.getFavoriteList(memberId);
+        FavoriteListResponse response = favoriteService.getFavoriteList(memberId, cursorOrderby, cursorProductId, size);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 즐겨찾기 일괄 추가 API
+     */
+    @PostMapping("/favorites/batch")
+    public ResponseEntity<AuthResponse> addFavorites(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestBody FavoriteBatchRequest request) {
+        return toResponse(favoriteService.addFavorites(loginUser.getMemberId(), request.getProductIds()));
+    }
+
+    /**
+     * 즐겨찾기 일괄 삭제 API
+     */
+    @PostMapping("/favorites/batch-delete")
+    public ResponseEntity<AuthResponse> removeFavorites(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestBody FavoriteBatchRequest request) {
+        return toResponse(favoriteService.removeFavorites(loginUser.getMemberId(), request.getProductIds()));
+    }
+
+    /**
+     * 즐겨찾기 순서 변경 API
+     * 전달한 상품 순서대로 정렬 순서를 1부터 다시 매김
+     */
+    @PutMapping("/favorites/order")
+    public ResponseEntity<AuthResponse> reorderFavorites(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @RequestBody FavoriteBatchRequest request) {
+        return toResponse(favoriteService.reorderFavorites(loginUser.getMemberId(), request.getProductIds()));
+    }
+
     /**
      * 즐겨찾기 삭제 API
      * 회원의 특정 상품을 즐겨찾기에서 제거
@@ -66,4 +102,12 @@ public class FavoriteApiController {
             return ResponseEntity.badRequest().body(response);
         }
     }
+
+    private ResponseEntity<AuthResponse> toResponse(AuthResponse response) {
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        } else {
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package com.codepresso.codepresso.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기 일괄 요청 DTO
+ * 일괄 추가/삭제 대상 상품, 또는 순서 변경 시 새 순서의 상품 목록
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteBatchRequest {
+
+    /**
+     * 상품 ID 목록 (순서 변경 시 앞에서부터 1, 2, 3 ...)
+     */
+    private List<Long> productIds;
+}
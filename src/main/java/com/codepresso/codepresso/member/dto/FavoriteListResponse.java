@@ -17,7 +17,7 @@ import java.util.List;
  * 포함 정보:
  * - 즐겨찾기 항목들의 배열 (List<FavoriteResponse>)
  * - 전체 즐겨찾기 개수 (totalCount)
- * - 향후 페이징, 정렬, 필터링 정보 확장 가능
+ * - 다음 페이지 키셋 커서 (nextOrderby, nextProductId)
  */
 @Getter
 @Builder
@@ -31,7 +31,18 @@ public class FavoriteListResponse {
     private List<FavoriteResponse> favorites;
     
     /**
-     * 총 개수
+     * 총 개수 (첫 페이지에서만 계산, 다음 페이지는 0)
      */
     private long totalCount;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 (이 페이지 마지막 항목의 정렬 순서, 상품 ID)
+     */
+    private Integer nextOrderby;
+    private Long nextProductId;
 }
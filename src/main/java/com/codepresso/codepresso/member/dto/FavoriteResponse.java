@@ -48,4 +48,12 @@ public class FavoriteResponse {
      * 즐겨찾기 추가 시간
      */
     private LocalDateTime createdAt;
+
+    /**
+     * 목록 조회 프로젝션용 생성자 (추가 시간은 저장하지 않으므로 제외)
+     */
+    public FavoriteResponse(Long memberId, Long productId, String productName, String productContent,
+                            String productPhoto, Integer price, Integer orderby) {
+        this(memberId, productId, productName, productContent, productPhoto, price, orderby, null);
+    }
 }
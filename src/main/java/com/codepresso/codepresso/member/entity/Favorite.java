@@ -13,7 +13,11 @@ import lombok.Setter;
  * ERD의 favorite 테이블과 매핑
  */
 @Entity
-@Table(name = "favorite")
+@Table(name = "favorite",
+        indexes = {
+                // 회원별 즐겨찾기 목록 키셋 페이징 (orderby, product_id)
+                @Index(name = "idx_favorite_member_orderby", columnList = "member_id, orderby, product_id")
+        })
 @Getter
 @Setter
 @Builder
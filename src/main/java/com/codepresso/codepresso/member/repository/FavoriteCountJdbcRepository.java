@@ -0,0 +1,67 @@
+package com.codepresso.codepresso.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 즐겨찾기 수(product.favorite_count) 일괄 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class FavoriteCountJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record DriftRow(Long productId, long actualCount, long storedCount) {}
+
+    public Long findMaxProductId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(product_id) FROM product", Long.class);
+    }
+
+    /**
+     * 상품 ID 범위 (from, to] 에서 favorite 행 수와 favorite_count 가 다른 상품 조회 (GROUP BY 한 번)
+     */
+    public List<DriftRow> findDrift(long fromId, long toId) {
+        return jdbcTemplate.query(
+                "SELECT p.product_id, COALESCE(f.cnt, 0) AS actual_count, COALESCE(p.favorite_count, 0) AS stored_count " +
+                "FROM product p " +
+                "LEFT JOIN (SELECT product_id, COUNT(*) AS cnt FROM favorite " +
+                "           WHERE product_id > ? AND product_id <= ? GROUP BY product_id) f " +
+                "  ON f.product_id = p.product_id " +
+                "WHERE p.product_id > ? AND p.product_id <= ? " +
+                "  AND COALESCE(p.favorite_count, 0) <> COALESCE(f.cnt, 0)",
+                (rs, i) -> new DriftRow(rs.getLong("product_id"), rs.getLong("actual_count"), rs.getLong("stored_count")),
+                fromId, toId, fromId, toId);
+    }
+
+    /**
+     * 상품별 증감을 UPDATE ... CASE 한 문장으로 반영 (0 미만으로 내려가지 않음)
+     * @return 갱신된 상품 수
+     */
+    public int applyDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        StringBuilder cases = new StringBuilder();
+        StringBuilder in = new StringBuilder();
+        List<Object> args = new ArrayList<>(deltas.size() * 3);
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            cases.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        for (Long productId : deltas.keySet()) {
+            in.append(in.isEmpty() ? "?" : ", ?");
+            args.add(productId);
+        }
+        return jdbcTemplate.update(
+                "UPDATE product SET favorite_count = GREATEST(COALESCE(favorite_count, 0) + CASE product_id" + cases + " ELSE 0 END, 0) " +
+                "WHERE product_id IN (" + in + ")",
+                args.toArray());
+    }
+}
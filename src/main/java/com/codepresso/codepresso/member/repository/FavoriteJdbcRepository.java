@@ -0,0 +1,131 @@
+package com.codepresso.codepresso.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 즐겨찾기 일괄 추가/삭제/순서 변경 (요청 상품 수와 관계없이 문장 수 고정)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FavoriteJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 즐겨찾기 한 건 추가, 정렬 순서가 없으면 같은 문장에서 회원의 마지막 순서 + 1
+     * @return 추가된 행 수 (이미 있으면 0)
+     */
+    public int insertFavorite(Long memberId, Long productId, Integer orderby) {
+        if (orderby != null) {
+            return jdbcTemplate.update(
+                    "INSERT IGNORE INTO favorite (member_id, product_id, orderby) VALUES (?, ?, ?)",
+                    memberId, productId, orderby);
+        }
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO favorite (member_id, product_id, orderby) " +
+                "SELECT ?, ?, COALESCE(MAX(orderby), 0) + 1 FROM favorite WHERE member_id = ?",
+                memberId, productId, memberId);
+    }
+
+    /**
+     * 요청 상품 중 존재하고 아직 즐겨찾기하지 않은 상품 ID
+     * favorite (member_id, product_id) 위치를 잠가 (없는 행은 gap lock) 이어지는 INSERT 전까지 같은 회원의 동시 추가를 막음
+     */
+    public List<Long> findAddableProductIds(Long memberId, Collection<Long> productIds) {
+        List<Object> args = new ArrayList<>(productIds.size() + 1);
+        args.add(memberId);
+        args.addAll(productIds);
+        return jdbcTemplate.queryForList(
+                "SELECT p.product_id FROM product p " +
+                "LEFT JOIN favorite f ON f.member_id = ? AND f.product_id = p.product_id " +
+                "WHERE p.product_id IN (" + placeholders(productIds.size()) + ") AND f.product_id IS NULL " +
+                "FOR UPDATE OF f",
+                Long.class, args.toArray());
+    }
+
+    /**
+     * 요청 상품 중 즐겨찾기되어 있는 상품 ID
+     * 찾은 행을 잠가 이어지는 DELETE 전까지 같은 회원의 동시 삭제를 막음
+     */
+    public List<Long> findFavoritedProductIds(Long memberId, Collection<Long> productIds) {
+        List<Object> args = new ArrayList<>(productIds.size() + 1);
+        args.add(memberId);
+        args.addAll(productIds);
+        return jdbcTemplate.queryForList(
+                "SELECT product_id FROM favorite WHERE member_id = ? AND product_id IN (" + placeholders(productIds.size()) + ") " +
+                "FOR UPDATE",
+                Long.class, args.toArray());
+    }
+
+    /**
+     * 여러 상품을 INSERT ... SELECT 한 문장으로 추가, 주어진 순서대로 회원의 마지막 순서 뒤에 붙임
+     * @return 추가된 행 수
+     */
+    public int insertFavorites(Long memberId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        String in = placeholders(productIds.size());
+        List<Object> args = new ArrayList<>(productIds.size() * 2 + 2);
+        args.add(memberId);
+        args.add(memberId);
+        args.addAll(productIds);
+        args.addAll(productIds);
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO favorite (member_id, product_id, orderby) " +
+                "SELECT ?, p.product_id, " +
+                "       (SELECT COALESCE(MAX(orderby), 0) FROM favorite WHERE member_id = ?) + FIELD(p.product_id, " + in + ") " +
+                "FROM product p WHERE p.product_id IN (" + in + ")",
+                args.toArray());
+    }
+
+    /**
+     * 여러 상품 즐겨찾기를 DELETE 한 문장으로 삭제
+     * @return 삭제된 행 수
+     */
+    public int deleteFavorites(Long memberId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(productIds.size() + 1);
+        args.add(memberId);
+        args.addAll(productIds);
+        return jdbcTemplate.update(
+                "DELETE FROM favorite WHERE member_id = ? AND product_id IN (" + placeholders(productIds.size()) + ")",
+                args.toArray());
+    }
+
+    /**
+     * 정렬 순서를 UPDATE ... CASE 한 문장으로 변경 (목록 순서대로 1, 2, 3 ...)
+     * @return 변경된 행 수
+     */
+    public int updateOrder(Long memberId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        StringBuilder cases = new StringBuilder();
+        List<Object> args = new ArrayList<>(productIds.size() * 3 + 1);
+        for (int i = 0; i < productIds.size(); i++) {
+            cases.append(" WHEN ? THEN ?");
+            args.add(productIds.get(i));
+            args.add(i + 1);
+        }
+        args.add(memberId);
+        args.addAll(productIds);
+        return jdbcTemplate.update(
+                "UPDATE favorite SET orderby = CASE product_id" + cases + " ELSE orderby END " +
+                "WHERE member_id = ? AND product_id IN (" + placeholders(productIds.size()) + ")",
+                args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
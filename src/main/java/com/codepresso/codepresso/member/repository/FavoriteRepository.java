@@ -1,7 +1,9 @@
 package com.codepresso.codepresso.member.repository;
 
+import com.codepresso.codepresso.member.dto.FavoriteResponse;
 import com.codepresso.codepresso.member.entity.Favorite;
 import com.codepresso.codepresso.member.entity.FavoriteId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -62,6 +64,49 @@ public interface FavoriteRepository extends JpaRepository<Favorite, FavoriteId>
     @Query("SELECT f, p FROM Favorite f JOIN f.product p WHERE f.memberId = :memberId ORDER BY f.orderby ASC")
     List<Object[]> findFavoritesWithProductByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 회원의 즐겨찾기 목록 첫 페이지 (필요한 상품 컬럼만 DTO로 조회)
+     *
+     * @param memberId 조회할 회원 ID
+     * @param pageable 조회 개수 (offset 은 사용하지 않음)
+     * @return List<FavoriteResponse> (orderby, productId) 순 즐겨찾기 목록
+     */
+    @Query("SELECT new com.codepresso.codepresso.member.dto.FavoriteResponse(" +
+            "f.memberId, f.productId, p.productName, p.productContent, p.productPhoto, p.price, f.orderby) " +
+            "FROM Favorite f JOIN f.product p " +
+            "WHERE f.memberId = :memberId " +
+            "ORDER BY f.orderby ASC, f.productId ASC")
+    List<FavoriteResponse> findFavoritePage(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 회원의 즐겨찾기 목록 다음 페이지 (키셋 : 마지막 항목의 orderby, productId 이후)
+     *
+     * @param memberId 조회할 회원 ID
+     * @param orderby 이전 페이지 마지막 항목의 정렬 순서
+     * @param productId 이전 페이지 마지막 항목의 상품 ID
+     * @param pageable 조회 개수 (offset 은 사용하지 않음)
+     * @return List<FavoriteResponse> (orderby, productId) 순 즐겨찾기 목록
+     */
+    @Query("SELECT new com.codepresso.codepresso.member.dto.FavoriteResponse(" +
+            "f.memberId, f.productId, p.productName, p.productContent, p.productPhoto, p.price, f.orderby) " +
+            "FROM Favorite f JOIN f.product p " +
+            "WHERE f.memberId = :memberId " +
+            "AND (f.orderby > :orderby OR (f.orderby = :orderby AND f.productId > :productId)) " +
+            "ORDER BY f.orderby ASC, f.productId ASC")
+    List<FavoriteResponse> findFavoritePageAfter(@Param("memberId") Long memberId,
+                                                 @Param("orderby") Integer orderby,
+                                                 @Param("productId") Long productId,
+                                                 Pageable pageable);
+
+    /**
+     * 회원이 즐겨찾기한 상품 ID 목록 (즐겨찾기 비트셋 적재용)
+     *
+     * @param memberId 조회할 회원 ID
+     * @return List<Long> 상품 ID 목록
+     */
+    @Query("SELECT f.productId FROM Favorite f WHERE f.memberId = :memberId")
+    List<Long> findProductIdsByMemberId(@Param("memberId") Long memberId);
+
     /**
      * 상품별 즐겨찾기 개수 조회
      * @param productId 조회할 상품
@@ -0,0 +1,41 @@
+package com.codepresso.codepresso.member.service;
+
+import com.codepresso.codepresso.common.transaction.TransactionCallbacks;
+import com.codepresso.codepresso.member.entity.Favorite;
+import com.codepresso.codepresso.member.repository.FavoriteRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 즐겨찾기 수를 메모리 버퍼(LongAdder)에 누적하는 방식
+ * product 행 잠금/UPDATE 없이 favorite INSERT 만 수행, 수는 FavoriteCounterBuffer 가 주기적으로 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class FavoriteBufferedService {
+
+    private final FavoriteRepository favoriteRepository;
+    private final FavoriteCounterBuffer favoriteCounterBuffer;
+    private final FavoriteMembershipCache favoriteMembershipCache;
+
+    @Transactional
+    public void addFavoriteWithBuffer(Long memberId, Long productId) {
+
+        if(!favoriteRepository.existsByMemberIdAndProductId(memberId, productId)) {
+            Favorite favorite = Favorite.builder()
+                    .memberId(memberId)
+                    .productId(productId)
+                    .orderby(1)
+                    .build();
+
+            favoriteRepository.saveAndFlush(favorite);
+
+            // FavoriteService 와 같은 방식으로 커밋 후 버퍼/보유 캐시에 반영
+            TransactionCallbacks.afterCommit(() -> {
+                favoriteCounterBuffer.increment(productId);
+                favoriteMembershipCache.markAdded(memberId, productId);
+            });
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.codepresso.codepresso.member.service;
+
+import com.codepresso.codepresso.common.config.FavoriteReconcileConfig;
+import com.codepresso.codepresso.member.repository.FavoriteCountJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 즐겨찾기 수 보정
+ * - 조회는 product.favorite_count 만 사용하므로 누락/중복 반영으로 생긴 차이를 주기적으로 바로잡음
+ * - 상품 ID 범위 (from, to] chunk 마다 GROUP BY 한 번 + 차이 있는 상품만 UPDATE ... CASE 한 번
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FavoriteCountReconciler {
+
+    private final FavoriteCountJdbcRepository favoriteCountJdbcRepository;
+    private final FavoriteCounterBuffer favoriteCounterBuffer;
+    private final FavoriteReconcileConfig config;
+
+    @Scheduled(cron = "${app.favorite.reconcile.cron:0 50 4 * * *}")
+    public void scheduledReconcile() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("[FavoriteReconcile] failed", e);
+        }
+    }
+
+    /**
+     * 보정 실행
+     * @return 보정한 상품 수
+     */
+    public int reconcile() {
+        Long maxId = favoriteCountJdbcRepository.findMaxProductId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int corrected = 0;
+        for (long from = 0; from < maxId; from += config.getChunkSize()) {
+            corrected += favoriteCounterBuffer.reconcile(from, Math.min(from + config.getChunkSize(), maxId));
+        }
+
+        log.info("[FavoriteReconcile] range=(0, {}], corrected={}", maxId, corrected);
+        return corrected;
+    }
+}
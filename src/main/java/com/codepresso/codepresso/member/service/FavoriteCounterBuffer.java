@@ -0,0 +1,165 @@
+package com.codepresso.codepresso.member.service;
+
+import com.codepresso.codepresso.member.repository.FavoriteCountJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 상품 즐겨찾기 수 증감 버퍼
+ * - 클릭마다 product 행을 잠그지 않고 상품별 LongAdder 에 누적 (스레드별 셀로 분산되어 경합 없음)
+ * - 주기적으로 누적분을 UPDATE ... CASE 한 문장(FLUSH_CHUNK 상품 단위)으로 반영
+ * - 조회 : DB 값 + 아직 반영 전인 증감 (pending + 반영 중 inflight)
+ *   chunk 반영(커밋 + inflight 제거)은 쓰기 락, read() 의 DB 조회 + 증감 합산은 읽기 락으로 묶어
+ *   커밋된 값과 inflight 를 함께 더하거나(이중 집계) 둘 다 빠뜨리지 않음
+ * - 보정 : 실제 favorite 행 수와 (DB 값 + 미반영 증감) 의 차이를 같은 방식으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteCounterBuffer {
+
+    private static final int FLUSH_CHUNK = 500;
+
+    private final FavoriteCountJdbcRepository favoriteCountJdbcRepository;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> inflight = new ConcurrentHashMap<>();
+    private final ReadWriteLock chunkLock = new ReentrantReadWriteLock();
+
+    /**
+     * DB 에서 읽은 값과 그 값에 더한 즐겨찾기 수
+     */
+    public record Counted<T>(T value, long favoriteCount) {}
+
+    public void increment(Long productId) {
+        pending.computeIfAbsent(productId, k -> new LongAdder()).increment();
+    }
+
+    public void decrement(Long productId) {
+        pending.computeIfAbsent(productId, k -> new LongAdder()).decrement();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감
+     */
+    public long pendingDelta(Long productId) {
+        LongAdder p = pending.get(productId);
+        LongAdder f = inflight.get(productId);
+        return (p != null ? p.sum() : 0L) + (f != null ? f.sum() : 0L);
+    }
+
+    /**
+     * DB 값에 미반영 증감을 더한 즐겨찾기 수
+     */
+    public long overlay(Long productId, Long dbCount) {
+        return Math.max((dbCount != null ? dbCount : 0L) + pendingDelta(productId), 0L);
+    }
+
+    /**
+     * DB 조회 + 미반영 증감 합산을 chunk 반영과 겹치지 않게 실행
+     * loader 는 해당 트랜잭션의 첫 조회여야 함 (REPEATABLE READ 스냅샷이 락 안에서 잡히도록)
+     */
+    public <T> Counted<T> read(Long productId, Supplier<T> loader, Function<T, Long> dbCount) {
+        chunkLock.readLock().lock();
+        try {
+            T value = loader.get();
+            return new Counted<>(value, overlay(productId, dbCount.apply(value)));
+        } finally {
+            chunkLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.favorite.counter.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[FavoriteCounter] flush failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        scheduledFlush();
+    }
+
+    /**
+     * 누적분 반영
+     * sumThenReset 대신 sum 후 같은 값을 빼서 그 사이 들어온 증감을 잃지 않음
+     * @return 반영한 상품 수
+     */
+    public synchronized int flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                entry.getValue().add(-delta);
+                inflight.computeIfAbsent(entry.getKey(), k -> new LongAdder()).add(delta);
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> productIds = new ArrayList<>(deltas.keySet());
+        int flushed = 0;
+        for (int from = 0; from < productIds.size(); from += FLUSH_CHUNK) {
+            Map<Long, Long> chunk = new HashMap<>();
+            for (Long productId : productIds.subList(from, Math.min(from + FLUSH_CHUNK, productIds.size()))) {
+                chunk.put(productId, deltas.get(productId));
+            }
+            // 커밋과 inflight 제거 사이에 read() 가 끼어들지 않도록 같은 쓰기 락 안에서 처리
+            chunkLock.writeLock().lock();
+            try {
+                favoriteCountJdbcRepository.applyDeltas(chunk);
+                flushed += chunk.size();
+            } catch (Exception e) {
+                // 반영 실패분은 다음 주기에 다시 시도
+                chunk.forEach((productId, delta) -> pending.computeIfAbsent(productId, k -> new LongAdder()).add(delta));
+                log.warn("[FavoriteCounter] chunk flush failed, retry next time: products={}", chunk.size(), e);
+            } finally {
+                chunk.forEach((productId, delta) -> inflight.get(productId).add(-delta));
+                chunkLock.writeLock().unlock();
+            }
+        }
+        log.debug("[FavoriteCounter] flushed products={}", flushed);
+        return flushed;
+    }
+
+    /**
+     * 상품 ID 범위 (from, to] 의 즐겨찾기 수 보정
+     * flush 와 같은 락에서 실행하여 반영 중인 증감을 이중으로 빼지 않음
+     * 커밋은 되었지만 버퍼 누적 전인 증감은 잘못 보정될 수 있으며 다음 보정에서 되돌아감
+     * @return 보정한 상품 수
+     */
+    public synchronized int reconcile(long fromId, long toId) {
+        Map<Long, Long> corrections = new HashMap<>();
+        for (FavoriteCountJdbcRepository.DriftRow row : favoriteCountJdbcRepository.findDrift(fromId, toId)) {
+            long drift = row.actualCount() - row.storedCount() - pendingDelta(row.productId());
+            if (drift != 0) {
+                corrections.put(row.productId(), drift);
+            }
+        }
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+        favoriteCountJdbcRepository.applyDeltas(corrections);
+        log.info("[FavoriteCounter] reconciled range=({}, {}], products={}", fromId, toId, corrections.size());
+        return corrections.size();
+    }
+}
@@ -0,0 +1,114 @@
+package com.codepresso.codepresso.member.service;
+
+import com.codepresso.codepresso.member.repository.FavoriteRepository;
+import com.codepresso.codepresso.product.service.ProductOrdinalRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 회원별 즐겨찾기 여부 비트셋
+ * - 상품 순번(ProductOrdinalRegistry) 기준, 첫 조회 시 쿼리 한 번으로 적재
+ * - 메뉴 전체 표시 : 메뉴 비트셋 AND 회원 비트셋 (64개 상품당 word 연산 한 번)
+ * - 추가/삭제 커밋 후 캐시에 있는 비트셋만 복사본으로 교체 (읽기 중인 비트셋은 바뀌지 않음)
+ *   적재 중이면 적재가 끝난 뒤 반영되고, 같은 비트를 다시 켜고 끄므로 커밋 전 값을 읽었어도 결과는 같음
+ */
+@Component
+@RequiredArgsConstructor
+public class FavoriteMembershipCache {
+
+    private final FavoriteRepository favoriteRepository;
+    private final ProductOrdinalRegistry productOrdinalRegistry;
+
+    private final Cache<Long, BitSet> favoriteBits = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    /**
+     * 회원이 상품을 즐겨찾기했는지
+     */
+    public boolean isFavorite(Long memberId, Long productId) {
+        if (memberId == null || productId == null) {
+            return false;
+        }
+        int ordinal = productOrdinalRegistry.ordinalOf(productId);
+        return ordinal >= 0 && bitsOf(memberId).get(ordinal);
+    }
+
+    /**
+     * 주어진 상품 중 회원이 즐겨찾기한 상품 ID
+     */
+    public Set<Long> findFavoriteProductIds(Long memberId, Collection<Long> productIds) {
+        if (memberId == null || productIds.isEmpty()) {
+            return Set.of();
+        }
+        BitSet member = bitsOf(memberId);
+        if (member.isEmpty()) {
+            return Set.of();
+        }
+
+        BitSet matched = new BitSet();
+        for (Long productId : productIds) {
+            int ordinal = productOrdinalRegistry.ordinalOf(productId);
+            if (ordinal >= 0) {
+                matched.set(ordinal);
+            }
+        }
+        matched.and(member);
+
+        Set<Long> result = new HashSet<>(matched.cardinality() * 2);
+        for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+            Long productId = productOrdinalRegistry.productIdAt(ordinal);
+            if (productId != null) {
+                result.add(productId);
+            }
+        }
+        return result;
+    }
+
+    public void markAdded(Long memberId, Long productId) {
+        update(memberId, productId, true);
+    }
+
+    public void markRemoved(Long memberId, Long productId) {
+        update(memberId, productId, false);
+    }
+
+    private BitSet bitsOf(Long memberId) {
+        return favoriteBits.get(memberId, this::load);
+    }
+
+    private BitSet load(Long memberId) {
+        BitSet bits = new BitSet();
+        for (Long productId : favoriteRepository.findProductIdsByMemberId(memberId)) {
+            int ordinal = productOrdinalRegistry.ordinalOf(productId);
+            if (ordinal >= 0) {
+                bits.set(ordinal);
+            }
+        }
+        return bits;
+    }
+
+    private void update(Long memberId, Long productId, boolean favorite) {
+        int ordinal = productOrdinalRegistry.ordinalOf(productId);
+        if (ordinal < 0) {
+            return;
+        }
+        favoriteBits.asMap().computeIfPresent(memberId, (id, bits) -> {
+            if (bits.get(ordinal) == favorite) {
+                return bits;
+            }
+            BitSet copy = (BitSet) bits.clone();
+            copy.set(ordinal, favorite);
+            return copy;
+        });
+    }
+}
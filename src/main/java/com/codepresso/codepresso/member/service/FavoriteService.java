@@ -1,10 +1,12 @@
 package com.codepresso.codepresso.member.service;
 
 import com.codepresso.codepresso.common.response.AuthResponse;
+import com.codepresso.codepresso.common.transaction.TransactionCallbacks;
 import com.codepresso.codepresso.member.dto.FavoriteListResponse;
 import com.codepresso.codepresso.member.dto.FavoriteRequest;
 import com.codepresso.codepresso.member.dto.FavoriteResponse;
 import com.codepresso.codepresso.member.entity.Favorite;
+import com.codepresso.codepresso.member.repository.FavoriteJdbcRepository;
 import com.codepresso.codepresso.member.repository.FavoriteRepository;
 import com.codepresso.codepresso.member.repository.ProductConcurrencyRepository;
 import com.codepresso.codepresso.product.entity.Product;
@@ -12,27 +14,34 @@ import com.codepresso.codepresso.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 /**
  * 즐겨찾기 관련 비즈니스 로직 서비스
- * 즐겨찾기추가, 즐겨찾기목록, 즐겨찾기삭제 기능 담당
+ * 즐겨찾기추가, 즐겨찾기목록, 즐겨찾기삭제, 일괄 추가/삭제, 순서 변경 기능 담당
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FavoriteService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final FavoriteRepository favoriteRepository;
+    private final FavoriteJdbcRepository favoriteJdbcRepository;
     private final ProductRepository productRepository;
     private final ProductConcurrencyRepository productConcurrencyRepository;
+    private final FavoriteCounterBuffer favoriteCounterBuffer;
+    private final FavoriteMembershipCache favoriteMembershipCache;
 
     /**
      * 즐겨찾기 추가
@@ -46,33 +55,24 @@ public class FavoriteService {
     public AuthResponse addFavorite(Long memberId, FavoriteRequest request) {
         try {
             // 상품 존재 여부 확인
-            Product product = productRepository.findById(request.getProductId())
-                    .orElseThrow(() -> new NoSuchElementException("상품을 찾을 수 없습니다. ID: " + request.getProductId()));
+            Long productId = request.getProductId();
+            if (productId == null || !productRepository.existsById(productId)) {
+                throw new NoSuchElementException("상품을 찾을 수 없습니다. ID: " + productId);
+            }
 
-            // 이미 즐겨찾기에 추가된 상품인지 확인
-            if (favoriteRepository.existsByMemberIdAndProductId(memberId, request.getProductId())) {
+            // 중복 확인과 정렬 순서(요청에 없으면 마지막 순서 + 1)를 INSERT 한 문장에서 처리
+            if (favoriteJdbcRepository.insertFavorite(memberId, productId, request.getOrderby()) == 0) {
                 return AuthResponse.builder()
                         .success(false)
                         .message("이미 즐겨찾기에 추가된 상품입니다.")
                         .build();
             }
 
-            // 정렬 순서 설정 (요청에 없으면 현재 즐겨찾기 개수 + 1)
-            Integer orderby = request.getOrderby();
-            if (orderby == null) {
-                orderby = (int) favoriteRepository.countByMemberId(memberId) + 1;
-            }
-
-            // 즐겨찾기 생성 및 저장
-            Favorite favorite = Favorite.builder()
-                    .memberId(memberId)
-                    .productId(request.getProductId())
-                    .orderby(orderby)
-                    .build();
-
-            favoriteRepository.save(favorite);
-
-            productConcurrencyRepository.incrementFavoriteCountAtomic(product.getId());
+            // 상품 행을 잠그지 않고 버퍼에 누적 (커밋 후, 주기적으로 일괄 반영)
+            TransactionCallbacks.afterCommit(() -> {
+                favoriteCounterBuffer.increment(productId);
+                favoriteMembershipCache.markAdded(memberId, productId);
+            });
 
             return AuthResponse.builder()
                     .success(true)
@@ -93,26 +93,37 @@ public class FavoriteService {
     }
 
     /**
-     * 즐겨찾기 목록 조회
-     * 회원의 즐겨찾기 목록을 상품 정보와 함께 조회
-     * 
+     * 즐겨찾기 목록 조회 (키셋 페이징)
+     * 필요한 상품 컬럼만 DTO로 조회, (orderby, productId) 커서 이후 size 개
+     *
      * @param memberId 회원 ID
+     * @param cursorOrderby 이전 페이지 마지막 항목의 정렬 순서 (첫 페이지는 null)
+     * @param cursorProductId 이전 페이지 마지막 항목의 상품 ID (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE)
      * @return FavoriteListResponse 즐겨찾기 목록 응답
      */
     @Transactional(readOnly = true)
-    public FavoriteListResponse getFavoriteList(Long memberId) {
+    public FavoriteListResponse getFavoriteList(Long memberId, Integer cursorOrderby, Long cursorProductId, int size) {
         try {
-            // 즐겨찾기 목록과 상품 정보를 함께 조회
-            List<Object[]> results = favoriteRepository.findFavoritesWithProductByMemberId(memberId);
-            
-            // DTO로 변환
-            List<FavoriteResponse> favorites = results.stream()
-                    .map(this::convertToFavoriteResponse)
-                    .collect(Collectors.toList());
+            int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            boolean firstPage = cursorOrderby == null || cursorProductId == null;
+
+            List<FavoriteResponse> rows = firstPage
+                    ? favoriteRepository.findFavoritePage(memberId, limit)
+                    : favoriteRepository.findFavoritePageAfter(memberId, cursorOrderby, cursorProductId, limit);
+
+            boolean hasNext = rows.size() > pageSize;
+            List<FavoriteResponse> favorites = hasNext ? rows.subList(0, pageSize) : rows;
+            FavoriteResponse last = favorites.isEmpty() ? null : favorites.get(favorites.size() - 1);
 
             return FavoriteListResponse.builder()
                     .favorites(favorites)
-                    .totalCount(favorites.size())
+                    .totalCount(firstPage ? (hasNext ? favoriteRepository.countByMemberId(memberId) : favorites.size()) : 0)
+                    .hasNext(hasNext)
+                    .nextOrderby(hasNext ? last.getOrderby() : null)
+                    .nextProductId(hasNext ? last.getProductId() : null)
                     .build();
 
         } catch (Exception e) {
@@ -134,17 +145,17 @@ public class FavoriteService {
     @Transactional
     public AuthResponse removeFavorite(Long memberId, Long productId) {
         try {
-            // 즐겨찾기 존재 여부 확인
-            Favorite favorite = favoriteRepository.findByMemberIdAndProductId(memberId, productId);
-            if (favorite == null) {
+            // 존재 여부 확인과 삭제를 DELETE 한 문장으로 처리
+            if (favoriteJdbcRepository.deleteFavorites(memberId, List.of(productId)) == 0) {
                 return AuthResponse.builder()
                         .success(false)
                         .message("즐겨찾기에 등록되지 않은 상품입니다.")
                         .build();
             }
-
-            // 즐겨찾기 삭제
-            favoriteRepository.delete(favorite);
+            TransactionCallbacks.afterCommit(() -> {
+                favoriteCounterBuffer.decrement(productId);
+                favoriteMembershipCache.markRemoved(memberId, productId);
+            });
 
             return AuthResponse.builder()
                     .success(true)
@@ -160,25 +171,133 @@ public class FavoriteService {
     }
 
     /**
-     * Object[]를 FavoriteResponse로 변환
-     * 
-     * @param result [Favorite, Product] 배열
-     * @return FavoriteResponse 변환된 DTO
+     * 즐겨찾기 일괄 추가
+     * 요청 순서대로 마지막 순서 뒤에 붙임, 없는 상품과 이미 추가된 상품은 건너뜀
+     *
+     * @param memberId 회원 ID
+     * @param productIds 추가할 상품 ID 목록
+     * @return AuthResponse 성공/실패 응답
      */
-    private FavoriteResponse convertToFavoriteResponse(Object[] result) {
-        Favorite favorite = (Favorite) result[0];
-        Product product = (Product) result[1];
-
-        return FavoriteResponse.builder()
-                .memberId(favorite.getMemberId())
-                .productId(favorite.getProductId())
-                .productName(product.getProductName())
-                .productContent(product.getProductContent())
-                .productPhoto(product.getProductPhoto())
-                .price(product.getPrice())
-                .orderby(favorite.getOrderby())
-                .createdAt(LocalDateTime.now()) // 실제로는 엔티티에서 가져와야 함
-                .build();
+    @Transactional
+    public AuthResponse addFavorites(Long memberId, List<Long> productIds) {
+        try {
+            List<Long> requested = validateBatch(productIds);
+            List<Long> addable = favoriteJdbcRepository.findAddableProductIds(memberId, requested);
+            // 요청 순서 유지
+            List<Long> targets = requested.stream().filter(addable::contains).toList();
+            int added = favoriteJdbcRepository.insertFavorites(memberId, targets);
+            // 조회 시 잠갔으므로 보통 같음, 다르면 어느 행을 추가했는지 알 수 없어 즐겨찾기 수는 보정 작업에 맡김
+            boolean exact = added == targets.size();
+            if (!exact) {
+                log.warn("즐겨찾기 일괄 추가 행 수 불일치 : memberId = {}, expected = {}, added = {}", memberId, targets.size(), added);
+            }
+
+            TransactionCallbacks.afterCommit(() -> targets.forEach(productId -> {
+                if (exact) {
+                    favoriteCounterBuffer.increment(productId);
+                }
+                favoriteMembershipCache.markAdded(memberId, productId);
+            }));
+
+            return AuthResponse.builder()
+                    .success(true)
+                    .message(added + "개 상품을 즐겨찾기에 추가했습니다.")
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            return AuthResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 즐겨찾기 일괄 삭제
+     *
+     * @param memberId 회원 ID
+     * @param productIds 삭제할 상품 ID 목록
+     * @return AuthResponse 성공/실패 응답
+     */
+    @Transactional
+    public AuthResponse removeFavorites(Long memberId, List<Long> productIds) {
+        try {
+            List<Long> requested = validateBatch(productIds);
+            List<Long> targets = favoriteJdbcRepository.findFavoritedProductIds(memberId, requested);
+            int removed = favoriteJdbcRepository.deleteFavorites(memberId, targets);
+            // 조회 시 잠갔으므로 보통 같음, 다르면 어느 행을 삭제했는지 알 수 없어 즐겨찾기 수는 보정 작업에 맡김
+            boolean exact = removed == targets.size();
+            if (!exact) {
+                log.warn("즐겨찾기 일괄 삭제 행 수 불일치 : memberId = {}, expected = {}, removed = {}", memberId, targets.size(), removed);
+            }
+
+            TransactionCallbacks.afterCommit(() -> targets.forEach(productId -> {
+                if (exact) {
+                    favoriteCounterBuffer.decrement(productId);
+                }
+                favoriteMembershipCache.markRemoved(memberId, productId);
+            }));
+
+            return AuthResponse.builder()
+                    .success(true)
+                    .message(removed + "개 상품을 즐겨찾기에서 삭제했습니다.")
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            return AuthResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 즐겨찾기 순서 변경
+     * 목록 순서대로 1부터 다시 매김 (UPDATE ... CASE 한 문장), 목록에 없는 즐겨찾기는 그대로
+     *
+     * @param memberId 회원 ID
+     * @param productIds 새 순서의 상품 ID 목록
+     * @return AuthResponse 성공/실패 응답
+     */
+    @Transactional
+    public AuthResponse reorderFavorites(Long memberId, List<Long> productIds) {
+        try {
+            if (productIds != null && productIds.stream().distinct().count() != productIds.size()) {
+                throw new IllegalArgumentException("중복된 상품이 있습니다.");
+            }
+            int updated = favoriteJdbcRepository.updateOrder(memberId, validateBatch(productIds));
+
+            return AuthResponse.builder()
+                    .success(true)
+                    .message(updated + "개 즐겨찾기 순서를 변경했습니다.")
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            return AuthResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 일괄 요청 상품 목록 검증 (null 제거, 중복 제거, 최대 MAX_BATCH_SIZE)
+     */
+    private List<Long> validateBatch(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new IllegalArgumentException("상품을 선택해주세요.");
+        }
+        List<Long> distinct = productIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("상품을 선택해주세요.");
+        }
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개까지 처리할 수 있습니다.");
+        }
+        return distinct;
     }
 
     /**
@@ -242,10 +361,14 @@ public class FavoriteService {
 
     }
 
+    /**
+     * 상품 즐겨찾기 수 (DB 값 + 아직 반영 전인 버퍼 증감)
+     */
     @Transactional
     public Long getFavoriteCount(long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다."));
-        return product.getFavoriteCount();
+        return favoriteCounterBuffer.read(productId,
+                () -> productRepository.findById(productId)
+                        .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다.")),
+                Product::getFavoriteCount).favoriteCount();
     }
 }
@@ -0,0 +1,25 @@
+package com.codepresso.codepresso.monitoring;
+
+/**
+ * 결제 처리(processTossPaymentSuccess) 단계
+ */
+public enum PaymentPhase {
+    QUOTE_VERIFY("quote_verify"),
+    MEMBER_BRANCH_LOAD("member_branch_load"),
+    DETAIL_CREATION("detail_creation"),
+    ORDER_INSERT("order_insert"),
+    CART_CLEAR("cart_clear"),
+    COUPON_USE("coupon_use"),
+    STAMP_EARN("stamp_earn"),
+    RESPONSE_BUILD("response_build");
+
+    private final String tagValue;
+
+    PaymentPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,18 @@
+package com.codepresso.codepresso.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 처리 단계별 측정기
+ * payment.sync.process.duration      : 전체 처리 시간
+ * payment.sync.phase.duration{phase} : 단계별 처리 시간
+ * payment.sync.phase.queries{phase}  : 단계별 SQL 실행 수
+ */
+@Component
+public class PaymentPhaseTracer extends PhaseTracer<PaymentPhase> {
+
+    public PaymentPhaseTracer(MeterRegistry meterRegistry) {
+        super(meterRegistry, "payment.sync", "toss", PaymentPhase.class, PaymentPhase::getTagValue);
+    }
+}
@@ -0,0 +1,99 @@
+package com.codepresso.codepresso.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 단계별 지연시간/쿼리 수 측정기
+ * - 단계별 Timer, DistributionSummary를 생성 시점에 한 번만 등록하고 재사용 (호출마다 register 하지 않음)
+ * - 쿼리 수는 RequestContext의 누적 쿼리 수 차이로 계산
+ */
+public class PhaseTracer<E extends Enum<E>> {
+
+    private final Timer totalTimer;
+    private final Map<E, Timer> phaseTimers;
+    private final Map<E, DistributionSummary> phaseQueries;
+
+    public PhaseTracer(MeterRegistry meterRegistry, String prefix, String type,
+                       Class<E> phaseType, Function<E, String> tagValue) {
+        this.totalTimer = Timer.builder(prefix + ".process.duration")
+                .description("전체 처리 응답 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .tag("type", type)
+                .register(meterRegistry);
+
+        this.phaseTimers = new EnumMap<>(phaseType);
+        this.phaseQueries = new EnumMap<>(phaseType);
+
+        for (E phase : phaseType.getEnumConstants()) {
+            phaseTimers.put(phase, Timer.builder(prefix + ".phase.duration")
+                    .description("단계별 처리 시간")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .tag("type", type)
+                    .tag("phase", tagValue.apply(phase))
+                    .register(meterRegistry));
+
+            phaseQueries.put(phase, DistributionSummary.builder(prefix + ".phase.queries")
+                    .description("단계별 SQL 실행 수")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .tag("type", type)
+                    .tag("phase", tagValue.apply(phase))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 측정 시작
+     */
+    public Span start() {
+        return new Span();
+    }
+
+    /**
+     * 한 번의 처리 흐름에 대한 측정 (스레드 간 공유 금지)
+     */
+    public class Span {
+        private final long startNanos;
+        private long lastNanos;
+        private int lastQueryCount;
+
+        private Span() {
+            this.startNanos = System.nanoTime();
+            this.lastNanos = startNanos;
+            this.lastQueryCount = currentQueryCount();
+        }
+
+        /**
+         * 직전 mark 이후 경과 시간/쿼리 수를 해당 단계로 기록
+         */
+        public void mark(E phase) {
+            long now = System.nanoTime();
+            int queryCount = currentQueryCount();
+
+            phaseTimers.get(phase).record(now - lastNanos, TimeUnit.NANOSECONDS);
+            phaseQueries.get(phase).record(queryCount - lastQueryCount);
+
+            lastNanos = now;
+            lastQueryCount = queryCount;
+        }
+
+        /**
+         * 전체 처리 시간 기록
+         */
+        public void finish() {
+            totalTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static int currentQueryCount() {
+        RequestContext ctx = RequestContextHolder.getContext();
+        return ctx != null ? ctx.getTotalQueryCount() : 0;
+    }
+}
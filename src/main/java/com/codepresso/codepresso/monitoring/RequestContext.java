@@ -14,6 +14,7 @@ public class RequestContext {
     private String bestMatchPath;
     private final Map<QueryType, Integer> queryCountByType = new HashMap<>();
     private final Map<String, Integer> queryCountByTable = new HashMap<>();
+    private int totalQueryCount;
 
     private static final Pattern FROM_PATTERN = Pattern.compile("\\bFROM\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
     private static final Pattern INSERT_PATTERN = Pattern.compile("\\bINTO\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
@@ -28,6 +29,7 @@ public class RequestContext {
     public void incrementQueryCount(String sql) {
         QueryType queryType = QueryType.from(sql);
         queryCountByType.merge(queryType, 1, Integer::sum);
+        totalQueryCount++;
 
         String table = extractTableName(sql);
         if (table != null) {
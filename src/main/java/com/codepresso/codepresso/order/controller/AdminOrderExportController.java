@@ -0,0 +1,46 @@
+package com.codepresso.codepresso.order.controller;
+
+import com.codepresso.codepresso.order.service.OrderExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 관리자 주문 내보내기 컨트롤러
+ * */
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/orders")
+@RestController
+public class AdminOrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * 기간별 주문 상세 CSV 다운로드
+     * GET /api/admin/orders/export?from=2025-01-01&to=2025-01-31&branchId=1
+     * */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long branchId) {
+
+        StreamingResponseBody body = orderExportService.exportCsv(from, to, branchId);
+        String fileName = "orders_" + from + "_" + to + ".csv";
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+}
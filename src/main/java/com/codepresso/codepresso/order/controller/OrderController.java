@@ -3,12 +3,14 @@ package com.codepresso.codepresso.order.controller;
 import com.codepresso.codepresso.order.dto.OrderDetailResponse;
 import com.codepresso.codepresso.order.dto.OrderListResponse;
 import com.codepresso.codepresso.common.security.LoginUser;
-import com.codepresso.codepresso.order.service.OrderService;
 import com.codepresso.codepresso.order.service.OrderServiceImproveGetOrderList;
+import com.codepresso.codepresso.order.service.ProductionQueueService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 주문 관련 컨트롤러
@@ -20,22 +22,24 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderServiceImproveGetOrderList orderImproveService;
-    private final OrderService orderService;
+    private final ProductionQueueService productionQueueService;
 
     /**
      * 사용자별 주문 내역 조회 ( 사용자별 + 기간별 )
      * GET /users/orders?memberId=1&period=1개월
      * period : 1개월, 3개월, 전체 ( 기본값 : 1개월 )
+     * cursor : 이전 응답의 nextCursor ( 첫 페이지는 생략 )
      * */
     @GetMapping
     public ResponseEntity<OrderListResponse> getOrderList(
             @AuthenticationPrincipal LoginUser loginUser,
             @RequestParam(value = "period", defaultValue = "1개월") String period,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "20") int size){
 
         Long memberId = loginUser.getMemberId();
-        OrderListResponse response = orderService.getOrderList(memberId, period, page, size);
+        OrderListResponse response = orderImproveService.getOrderList(memberId, period, cursor, page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -47,7 +51,18 @@ public class OrderController {
     public ResponseEntity<OrderDetailResponse> getOrderDetail(
             @AuthenticationPrincipal LoginUser loginUser,
             @PathVariable Long orderId){
-        OrderDetailResponse response = orderService.getOrderDetail(orderId);
+        OrderDetailResponse response = orderImproveService.getOrderDetail(orderId);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 주문 제조 상태 구독 (SSE)
+     * /users/orders/{orderId}/status/stream
+     * */
+    @GetMapping(value = "/{orderId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(
+            @AuthenticationPrincipal LoginUser loginUser,
+            @PathVariable Long orderId){
+        return productionQueueService.subscribeOrder(loginUser.getMemberId(), orderId);
+    }
 }
@@ -4,6 +4,7 @@ import com.codepresso.codepresso.order.dto.OrderDetailResponse;
 import com.codepresso.codepresso.order.dto.OrderListResponse;
 import com.codepresso.codepresso.common.security.LoginUser;
 import com.codepresso.codepresso.order.service.OrderServiceImproveGetOrderList;
+import com.codepresso.codepresso.order.service.PrepTimeEstimator;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -12,7 +13,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -27,14 +27,17 @@ public class OrderViewPageController {
 //    }
 
     private final OrderServiceImproveGetOrderList orderService;
+    private final PrepTimeEstimator prepTimeEstimator;
 
-    public OrderViewPageController(OrderServiceImproveGetOrderList orderService) {
+    public OrderViewPageController(OrderServiceImproveGetOrderList orderService, PrepTimeEstimator prepTimeEstimator) {
         this.orderService = orderService;
+        this.prepTimeEstimator = prepTimeEstimator;
     }
 
     @GetMapping
     public String orderListPage(
             @RequestParam(defaultValue = "1개월") String period,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @AuthenticationPrincipal LoginUser loginUser,
             Model model
@@ -44,7 +47,7 @@ public class OrderViewPageController {
             int size = 10;
 
             // 주문 목록 조회
-            OrderListResponse orderList = orderService.getOrderList(loginUser.getMemberId(), period, page, size);
+            OrderListResponse orderList = orderService.getOrderList(loginUser.getMemberId(), period, cursor, page, size);
 
             // Model에 데이터 추가
             model.addAttribute("orderList", orderList);
@@ -59,13 +62,7 @@ public class OrderViewPageController {
             model.addAttribute("pageSize", orderList.getPageSize());
             model.addAttribute("hasNext", orderList.getHasNext());
             model.addAttribute("hasPrevious", orderList.getHasPrevious());
-
-            // 페이지 번호 리스트 생성 (1, 2, 3, ... 표시용)
-            List<Integer> pageNumbers = new ArrayList<>();
-            for (int i = 0; i < orderList.getTotalPages(); i++) {
-                pageNumbers.add(i);
-            }
-            model.addAttribute("pageNumbers", pageNumbers);
+            model.addAttribute("nextCursor", orderList.getNextCursor());
 
             // 기간 옵션
             List<String> periodOptions = Arrays.asList("1개월","3개월","전체");
@@ -86,6 +83,8 @@ public class OrderViewPageController {
         model.addAttribute("orderId", orderId);
         model.addAttribute("orderDetail", orderDetail);
         model.addAttribute("paymentInfo",orderDetail.getPayment());
+        // 제조완료 전 주문만 예상 제조완료 시각 표시 (메모리 조회)
+        model.addAttribute("estimatedReadyAt", prepTimeEstimator.estimateReadyAt(orderId));
 
         return "order/orderDetail";
     }
@@ -0,0 +1,58 @@
+package com.codepresso.codepresso.order.controller;
+
+import com.codepresso.codepresso.order.dto.ProductionQueueItem;
+import com.codepresso.codepresso.order.dto.ProductionStatusRequest;
+import com.codepresso.codepresso.order.entity.ProductionStatus;
+import com.codepresso.codepresso.order.service.ProductionQueueService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 지점 제조 대기열 컨트롤러 (관리자/직원)
+ * */
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/branches/{branchId}/production-queue")
+@RestController
+public class ProductionQueueController {
+
+    private final ProductionQueueService productionQueueService;
+
+    /**
+     * 대기열 조회 (접수 순)
+     * GET /api/admin/branches/{branchId}/production-queue
+     * */
+    @GetMapping
+    public ResponseEntity<List<ProductionQueueItem>> getQueue(@PathVariable Long branchId) {
+        return ResponseEntity.ok(productionQueueService.getQueue(branchId));
+    }
+
+    /**
+     * 대기열 변경 구독 (SSE)
+     * GET /api/admin/branches/{branchId}/production-queue/stream
+     * */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long branchId) {
+        return productionQueueService.subscribeBranch(branchId);
+    }
+
+    /**
+     * 제조 상태 변경
+     * PATCH /api/admin/branches/{branchId}/production-queue/{orderId}
+     * body : { "status": "PREPARING" } (RECEIVED, PREPARING, READY, PICKED_UP 또는 한글 상태명)
+     * */
+    @PatchMapping("/{orderId}")
+    public ResponseEntity<ProductionQueueItem> changeStatus(
+            @PathVariable Long branchId,
+            @PathVariable Long orderId,
+            @Valid @RequestBody ProductionStatusRequest request) {
+        ProductionQueueItem item = productionQueueService.changeStatus(
+                branchId, orderId, ProductionStatus.from(request.getStatus()));
+        return ResponseEntity.ok(item);
+    }
+}
@@ -23,6 +23,7 @@ public class OrderListResponse {
     private Integer pageSize;       // 페이지당 항목 수
     private Boolean hasNext;        // 다음 페이지 존재 여부
     private Boolean hasPrevious;    // 이전 페이지 존재 여부
+    private String nextCursor;      // 다음 페이지 커서 (orderDate_orderId)
 
     @Data
     @Builder
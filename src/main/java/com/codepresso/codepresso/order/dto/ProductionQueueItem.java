@@ -0,0 +1,23 @@
+package com.codepresso.codepresso.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지점 제조 대기열 항목 / 상태 변경 이벤트
+ */
+@Getter
+@Builder
+public class ProductionQueueItem {
+    private Long orderId;
+    private Long branchId;
+    private Long memberId;
+    private String productionStatus;    // 주문접수, 제조중, 제조완료, 픽업완료
+    private String representativeName;  // 대표 상품명 (외 N개 포함)
+    private Boolean isTakeout;
+    private LocalDateTime orderDate;
+    private LocalDateTime pickupTime;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,15 @@
+package com.codepresso.codepresso.order.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제조 상태 변경 요청 (PREPARING / 제조중 등)
+ */
+@Getter
+@NoArgsConstructor
+public class ProductionStatusRequest {
+    @NotBlank
+    private String status;
+}
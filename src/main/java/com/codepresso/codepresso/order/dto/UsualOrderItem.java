@@ -0,0 +1,20 @@
+package com.codepresso.codepresso.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 자주 주문한 메뉴 (상품 + 옵션 조합)
+ */
+@Getter
+@Builder
+public class UsualOrderItem {
+    private Long productId;
+    private String productName;
+    private List<String> optionNames;
+    private int orderCount;             // 같은 조합으로 주문한 횟수
+    private LocalDateTime lastOrderedAt;
+}
@@ -0,0 +1,22 @@
+package com.codepresso.codepresso.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원별 주문 수 카운터
+ * 주문 저장 시 함께 증가시켜 주문 목록 조회 때 COUNT 쿼리를 대신함
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Table(name = "member_order_count")
+@Entity
+public class MemberOrderCount {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+}
@@ -11,7 +11,17 @@ import java.util.List;
 
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
-@Table(name="orders")
+@Table(name="orders",
+        indexes = {
+                // 회원별 주문 목록 keyset 페이징 (order_date DESC, order_id DESC)
+                @Index(name = "idx_orders_member_date_id", columnList = "member_id, order_date, order_id"),
+                // 일일 주문 순번 계산, 아카이브 기준일 조회
+                @Index(name = "idx_orders_order_date", columnList = "order_date")
+        },
+        uniqueConstraints = {
+                // 결제 견적(토스 orderId) 1회 사용
+                @UniqueConstraint(name = "uk_orders_toss_order_id", columnNames = "toss_order_id")
+        })
 @Entity
 public class Orders {
 
@@ -62,4 +72,7 @@ public class Orders {
 
     @Column(name = "used_coupon_id")
     private Long usedCouponId;          // 사용할 쿠폰 ID
+
+    @Column(name = "toss_order_id", length = 64)
+    private String tossOrderId;         // 결제 견적에 묶인 토스 orderId
 }
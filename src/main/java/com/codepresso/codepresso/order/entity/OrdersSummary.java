@@ -0,0 +1,55 @@
+package com.codepresso.codepresso.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록용 요약 (읽기 모델)
+ * 주문 저장과 같은 트랜잭션에서 기록하여 목록 조회 시 order_detail / product / branch 조인 없이 단일 테이블로 조회
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "order_summary",
+        indexes = {
+                // 회원별 주문 목록 keyset 페이징 (order_date DESC, order_id DESC)
+                @Index(name = "idx_order_summary_member_date_id", columnList = "member_id, order_date, order_id")
+        })
+@Entity
+public class OrdersSummary {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "branch_name", length = 100)
+    private String branchName;
+
+    @Column(name = "order_date")
+    private LocalDateTime orderDate;
+
+    @Column(name = "production_status", length = 50)
+    private String productionStatus;
+
+    @Column(name = "takeout")
+    private Boolean isTakeout;
+
+    @Column(name = "pickup_time")
+    private LocalDateTime pickupTime;
+
+    @Column(name = "total_amount")
+    private Integer totalAmount;
+
+    @Column(name = "representative_product_id")
+    private Long representativeProductId;
+
+    @Column(name = "representative_product_name")
+    private String representativeProductName;
+
+    @Column(name = "item_count")
+    private Integer itemCount;          // 주문 상품(라인) 수
+}
@@ -0,0 +1,34 @@
+package com.codepresso.codepresso.order.entity;
+
+/**
+ * 주문 제조 상태
+ * orders.production_status 에는 label(한글)로 저장
+ */
+public enum ProductionStatus {
+    RECEIVED("주문접수"),
+    PREPARING("제조중"),
+    READY("제조완료"),
+    PICKED_UP("픽업완료");
+
+    private final String label;
+
+    ProductionStatus(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * enum 이름 또는 한글 label로 변환
+     */
+    public static ProductionStatus from(String value) {
+        for (ProductionStatus status : values()) {
+            if (status.name().equalsIgnoreCase(value) || status.label.equals(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 제조 상태입니다: " + value);
+    }
+}
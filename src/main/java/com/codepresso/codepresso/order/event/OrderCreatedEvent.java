@@ -0,0 +1,62 @@
+package com.codepresso.codepresso.order.event;
+
+import com.codepresso.codepresso.order.entity.Orders;
+import com.codepresso.codepresso.order.entity.OrdersDetail;
+import com.codepresso.codepresso.order.entity.OrdersItemOptions;
+import com.codepresso.codepresso.order.entity.OrdersSummary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 주문 생성 이벤트
+ * 주문 저장 트랜잭션 안에서 발행, 구독자는 커밋 이후(@TransactionalEventListener) 처리
+ * 엔티티를 들고 다니지 않도록 ID/수량과 제조 대기열 표시에 필요한 값만 복사해 둔다
+ */
+public record OrderCreatedEvent(Long orderId,
+                                Long memberId,
+                                Long branchId,
+                                LocalDateTime orderDate,
+                                String productionStatus,
+                                Boolean isTakeout,
+                                LocalDateTime pickupTime,
+                                String representativeProductName,
+                                Integer itemCount,
+                                List<Line> lines) {
+
+    /**
+     * 주문 상세 한 줄 (옵션 ID는 오름차순)
+     */
+    public record Line(long productId, int quantity, int price, long[] optionIds) {}
+
+    public static OrderCreatedEvent of(Orders savedOrder, OrdersSummary summary) {
+        List<Line> lines = new ArrayList<>(savedOrder.getOrdersDetails().size());
+        for (OrdersDetail detail : savedOrder.getOrdersDetails()) {
+            List<OrdersItemOptions> options = detail.getOptions();
+            long[] optionIds = new long[options == null ? 0 : options.size()];
+            for (int i = 0; i < optionIds.length; i++) {
+                optionIds[i] = options.get(i).getOption().getId();
+            }
+            Arrays.sort(optionIds);
+
+            lines.add(new Line(
+                    detail.getProduct().getId(),
+                    detail.getQuantity() != null ? detail.getQuantity() : 0,
+                    detail.getPrice() != null ? detail.getPrice() : 0,
+                    optionIds));
+        }
+        return new OrderCreatedEvent(
+                savedOrder.getId(),
+                savedOrder.getMember().getId(),
+                savedOrder.getBranch().getId(),
+                savedOrder.getOrderDate(),
+                savedOrder.getProductionStatus(),
+                savedOrder.getIsTakeout(),
+                savedOrder.getPickupTime(),
+                summary.getRepresentativeProductName(),
+                summary.getItemCount(),
+                List.copyOf(lines));
+    }
+}
@@ -0,0 +1,27 @@
+package com.codepresso.codepresso.order.repository;
+
+import com.codepresso.codepresso.order.entity.MemberOrderCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MemberOrderCountRepository extends JpaRepository<MemberOrderCount, Long> {
+
+    /**
+     * 회원 주문 수 조회 (PK 조회)
+     */
+    @Query("SELECT c.orderCount FROM MemberOrderCount c WHERE c.memberId = :memberId")
+    Optional<Long> findOrderCount(@Param("memberId") Long memberId);
+
+    /**
+     * 주문 저장 시 회원 주문 수 1 증가 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_order_count (member_id, order_count) VALUES (:memberId, 1) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + 1",
+            nativeQuery = true)
+    int increment(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,252 @@
+package com.codepresso.codepresso.order.repository;
+
+import com.codepresso.codepresso.order.dto.OrderDetailResponse;
+import com.codepresso.codepresso.order.entity.OrdersSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 주문 아카이브(보관) 테이블 접근
+ * orders / order_detail / order_item_options / order_summary 와 같은 구조의 *_archive 테이블을 JDBC로 다룸
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveRepository {
+
+    private static final String CHECKPOINT_NAME = "orders";
+
+    private static final String ORDERS_COLUMNS =
+            "order_id, branch_id, member_id, production_status, takeout, pickup_time, order_date, " +
+            "request_note, pickup, total_amount, discount_amount, final_amount, used_coupon_id, toss_order_id";
+    private static final String DETAIL_COLUMNS =
+            "order_detail_id, order_id, product_id, price, quantity, is_representative";
+    private static final String OPTION_COLUMNS =
+            "order_item_options_id, option_id, order_detail_id";
+    private static final String SUMMARY_COLUMNS =
+            "order_id, member_id, branch_name, order_date, production_status, takeout, pickup_time, " +
+            "total_amount, representative_product_id, representative_product_name, item_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이동 대상 스캔 결과
+     * expired=false : 기준일 이후 주문 (ID 는 작지만 늦게 기록된 주문, 나중에 다시 스캔)
+     * linked=true : 리뷰/결제가 연결된 주문 (hot 테이블에 계속 유지)
+     */
+    public record ScanRow(long orderId, boolean expired, boolean linked) {
+        public boolean archivable() {
+            return expired && !linked;
+        }
+    }
+
+    // ===== 아카이브 배치 =====
+
+    /**
+     * 기준일 이전 주문 중 가장 큰 주문 ID (이번 배치의 상한)
+     */
+    public long findUpperBound(LocalDateTime horizon) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(order_id) FROM orders WHERE order_date < ?", Long.class, Timestamp.valueOf(horizon));
+        return maxId != null ? maxId : 0L;
+    }
+
+    public long loadCheckpoint() {
+        List<Long> rows = jdbcTemplate.queryForList(
+                "SELECT last_order_id FROM order_archive_checkpoint WHERE name = ?", Long.class, CHECKPOINT_NAME);
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    public void saveCheckpoint(long lastOrderId) {
+        jdbcTemplate.update(
+                "INSERT INTO order_archive_checkpoint (name, last_order_id, updated_at) VALUES (?, ?, NOW()) " +
+                "ON DUPLICATE KEY UPDATE last_order_id = VALUES(last_order_id), updated_at = NOW()",
+                CHECKPOINT_NAME, lastOrderId);
+    }
+
+    /**
+     * (afterId, upToId] 구간을 PK 순으로 limit 건 스캔
+     */
+    public List<ScanRow> scan(long afterId, long upToId, LocalDateTime horizon, int limit) {
+        return jdbcTemplate.query(
+                "SELECT o.order_id, " +
+                "       o.order_date < ? AS expired, " +
+                "       (EXISTS (SELECT 1 FROM payment pm WHERE pm.order_id = o.order_id) " +
+                "        OR EXISTS (SELECT 1 FROM review r JOIN order_detail d ON d.order_detail_id = r.order_detail_id " +
+                "                   WHERE d.order_id = o.order_id)) AS linked " +
+                "FROM orders o " +
+                "WHERE o.order_id > ? AND o.order_id <= ? " +
+                "ORDER BY o.order_id " +
+                "LIMIT ?",
+                (rs, i) -> new ScanRow(rs.getLong(1), rs.getBoolean(2), rs.getBoolean(3)),
+                Timestamp.valueOf(horizon), afterId, upToId, limit);
+    }
+
+    /**
+     * 주문을 보관 테이블로 복사 후 hot 테이블에서 삭제 (호출 측 트랜잭션 안에서 실행)
+     */
+    public int moveToArchive(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        String in = placeholders(orderIds.size());
+        Object[] ids = orderIds.toArray();
+        String detailIds = "SELECT order_detail_id FROM order_detail WHERE order_id IN (" + in + ")";
+
+        jdbcTemplate.update("INSERT IGNORE INTO orders_archive (" + ORDERS_COLUMNS + ") " +
+                "SELECT " + ORDERS_COLUMNS + " FROM orders WHERE order_id IN (" + in + ")", ids);
+        jdbcTemplate.update("INSERT IGNORE INTO order_detail_archive (" + DETAIL_COLUMNS + ") " +
+                "SELECT " + DETAIL_COLUMNS + " FROM order_detail WHERE order_id IN (" + in + ")", ids);
+        jdbcTemplate.update("INSERT IGNORE INTO order_item_options_archive (" + OPTION_COLUMNS + ") " +
+                "SELECT " + OPTION_COLUMNS + " FROM order_item_options WHERE order_detail_id IN (" + detailIds + ")", ids);
+        jdbcTemplate.update("INSERT IGNORE INTO order_summary_archive (" + SUMMARY_COLUMNS + ") " +
+                "SELECT " + SUMMARY_COLUMNS + " FROM order_summary WHERE order_id IN (" + in + ")", ids);
+
+        jdbcTemplate.update("DELETE FROM order_item_options WHERE order_detail_id IN (" + detailIds + ")", ids);
+        jdbcTemplate.update("DELETE FROM order_detail WHERE order_id IN (" + in + ")", ids);
+        jdbcTemplate.update("DELETE FROM order_summary WHERE order_id IN (" + in + ")", ids);
+        return jdbcTemplate.update("DELETE FROM orders WHERE order_id IN (" + in + ")", ids);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 보관된 주문 요약 목록 (keyset 페이징, 커서가 없으면 첫 페이지)
+     */
+    public List<OrdersSummary> findSummaries(Long memberId, LocalDateTime cursorDate, Long cursorId, int limit) {
+        if (cursorDate == null) {
+            return jdbcTemplate.query(
+                    "SELECT " + SUMMARY_COLUMNS + " FROM order_summary_archive " +
+                    "WHERE member_id = ? " +
+                    "ORDER BY order_date DESC, order_id DESC LIMIT ?",
+                    SUMMARY_MAPPER, memberId, limit);
+        }
+        Timestamp cursor = Timestamp.valueOf(cursorDate);
+        return jdbcTemplate.query(
+                "SELECT " + SUMMARY_COLUMNS + " FROM order_summary_archive " +
+                "WHERE member_id = ? " +
+                "AND (order_date < ? OR (order_date = ? AND order_id < ?)) " +
+                "ORDER BY order_date DESC, order_id DESC LIMIT ?",
+                SUMMARY_MAPPER, memberId, cursor, cursor, cursorId, limit);
+    }
+
+    /**
+     * 보관된 주문 상세 (주문 1건 + 상품 + 옵션, 쿼리 3번)
+     */
+    public Optional<OrderDetailResponse> findOrderDetail(Long orderId) {
+        List<OrderDetailResponse> orders = jdbcTemplate.query(
+                "SELECT o.order_id, o.order_date, o.production_status, o.pickup_time, o.takeout, o.request_note, " +
+                "       o.total_amount, o.discount_amount, o.final_amount, " +
+                "       b.branch_id, b.branch_name, b.address, b.branch_number " +
+                "FROM orders_archive o JOIN branch b ON b.branch_id = o.branch_id " +
+                "WHERE o.order_id = ?",
+                (rs, i) -> OrderDetailResponse.builder()
+                        .orderId(rs.getLong("order_id"))
+                        .orderNumber(String.valueOf(rs.getLong("order_id")))
+                        .orderDate(toLocalDateTime(rs.getTimestamp("order_date")))
+                        .productionStatus(rs.getString("production_status"))
+                        .pickupTime(toLocalDateTime(rs.getTimestamp("pickup_time")))
+                        .isTakeout(rs.getObject("takeout", Boolean.class))
+                        .requestNote(rs.getString("request_note"))
+                        .branch(OrderDetailResponse.BranchInfo.builder()
+                                .branchId(rs.getLong("branch_id"))
+                                .branchName(rs.getString("branch_name"))
+                                .address(rs.getString("address"))
+                                .branchNumber(rs.getString("branch_number"))
+                                .build())
+                        .orderItems(new ArrayList<>())
+                        .payment(OrderDetailResponse.PaymentInfo.builder()
+                                .paymentMethod("신용카드")
+                                .totalAmount(rs.getInt("total_amount"))
+                                .discount(rs.getInt("discount_amount"))
+                                .finalAmount(rs.getInt("final_amount"))
+                                .paymentDate(toLocalDateTime(rs.getTimestamp("order_date")))
+                                .build())
+                        .build(),
+                orderId);
+        if (orders.isEmpty()) {
+            return Optional.empty();
+        }
+        OrderDetailResponse response = orders.get(0);
+
+        // 옵션 (기본 옵션 제외)
+        Map<Long, List<OrderDetailResponse.OrderOption>> optionsByDetail = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT io.order_detail_id, os.option_style, os.extra_price " +
+                "FROM order_item_options_archive io " +
+                "JOIN product_option po ON po.product_option_id = io.option_id " +
+                "JOIN option_style os ON os.option_style_id = po.option_style_id " +
+                "WHERE io.order_detail_id IN (SELECT order_detail_id FROM order_detail_archive WHERE order_id = ?)",
+                (RowCallbackHandler) rs -> {
+                    String optionStyle = rs.getString("option_style");
+                    if ("기본".equals(optionStyle)) {
+                        return;
+                    }
+                    optionsByDetail.computeIfAbsent(rs.getLong("order_detail_id"), k -> new ArrayList<>())
+                            .add(OrderDetailResponse.OrderOption.builder()
+                                    .optionStyle(optionStyle)
+                                    .extraPrice(rs.getObject("extra_price", Integer.class))
+                                    .build());
+                },
+                orderId);
+
+        // 상품
+        jdbcTemplate.query(
+                "SELECT d.order_detail_id, d.quantity, p.product_name, p.price " +
+                "FROM order_detail_archive d JOIN product p ON p.product_id = d.product_id " +
+                "WHERE d.order_id = ? ORDER BY d.order_detail_id",
+                (RowCallbackHandler) rs -> {
+                    long detailId = rs.getLong("order_detail_id");
+                    List<OrderDetailResponse.OrderOption> options =
+                            optionsByDetail.getOrDefault(detailId, new ArrayList<>());
+                    int optionExtraPrice = 0;
+                    for (OrderDetailResponse.OrderOption option : options) {
+                        if (option.getExtraPrice() != null) {
+                            optionExtraPrice += option.getExtraPrice();
+                        }
+                    }
+                    int basePrice = rs.getInt("price");
+                    int quantity = rs.getObject("quantity") != null ? rs.getInt("quantity") : 1;
+
+                    response.getOrderItems().add(OrderDetailResponse.OrderItem.builder()
+                            .orderDetailId(detailId)
+                            .productName(rs.getString("product_name"))
+                            .quantity(quantity)
+                            .price(basePrice)
+                            .totalPrice((basePrice + optionExtraPrice) * quantity)
+                            .options(options)
+                            .build());
+                },
+                orderId);
+
+        return Optional.of(response);
+    }
+
+    private static final RowMapper<OrdersSummary> SUMMARY_MAPPER = (rs, i) -> OrdersSummary.builder()
+            .orderId(rs.getLong("order_id"))
+            .memberId(rs.getLong("member_id"))
+            .branchName(rs.getString("branch_name"))
+            .orderDate(toLocalDateTime(rs.getTimestamp("order_date")))
+            .productionStatus(rs.getString("production_status"))
+            .isTakeout(rs.getObject("takeout", Boolean.class))
+            .pickupTime(toLocalDateTime(rs.getTimestamp("pickup_time")))
+            .totalAmount(rs.getObject("total_amount", Integer.class))
+            .representativeProductId(rs.getObject("representative_product_id", Long.class))
+            .representativeProductName(rs.getString("representative_product_name"))
+            .itemCount(rs.getObject("item_count", Integer.class))
+            .build();
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+}
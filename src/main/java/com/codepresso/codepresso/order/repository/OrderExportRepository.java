@@ -0,0 +1,57 @@
+package com.codepresso.codepresso.order.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기용 스트리밍 조회
+ * MySQL fetchSize = Integer.MIN_VALUE 로 행 단위 순방향 전송 (엔티티 생성 없음, 결과 전체를 메모리에 올리지 않음)
+ */
+@Repository
+public class OrderExportRepository {
+
+    private static final String LINE_COLUMNS =
+            "o.order_id, o.order_date, o.branch_id, b.branch_name, o.member_id, o.production_status, o.takeout, " +
+            "o.pickup_time, p.product_name, d.quantity, d.price, o.total_amount, o.discount_amount, o.final_amount";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public OrderExportRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * [from, to) 주문 상세 행 스트리밍 (hot + 보관 테이블)
+     * 컬럼 순서 : LINE_COLUMNS
+     */
+    public void streamOrderLines(LocalDateTime from, LocalDateTime to, Long branchId, RowCallbackHandler handler) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+        String where = "WHERE o.order_date >= ? AND o.order_date < ?" + (branchId != null ? " AND o.branch_id = ?" : "");
+        Object[] args = branchId != null
+                ? new Object[]{start, end, branchId, start, end, branchId}
+                : new Object[]{start, end, start, end};
+
+        streamingJdbcTemplate.query(
+                "SELECT " + LINE_COLUMNS + " " +
+                "FROM orders o " +
+                "JOIN order_detail d ON d.order_id = o.order_id " +
+                "JOIN branch b ON b.branch_id = o.branch_id " +
+                "JOIN product p ON p.product_id = d.product_id " +
+                where + " " +
+                "UNION ALL " +
+                "SELECT " + LINE_COLUMNS + " " +
+                "FROM orders_archive o " +
+                "JOIN order_detail_archive d ON d.order_id = o.order_id " +
+                "JOIN branch b ON b.branch_id = o.branch_id " +
+                "JOIN product p ON p.product_id = d.product_id " +
+                where,
+                handler, args);
+    }
+}
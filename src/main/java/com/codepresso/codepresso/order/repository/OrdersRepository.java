@@ -5,10 +5,12 @@ import com.codepresso.codepresso.order.entity.Orders;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrdersRepository extends JpaRepository<Orders, Long> {
@@ -103,6 +105,11 @@ public interface OrdersRepository extends JpaRepository<Orders, Long> {
             @Param("endOfDay") LocalDateTime endOfDay,
             @Param("orderDate") LocalDateTime orderDate);
 
+    /**
+     * 결제 견적(토스 orderId)으로 이미 생성된 주문이 있는지
+     */
+    boolean existsByTossOrderId(String tossOrderId);
+
     /**
      * 회원별 주문 개수 조회
      */
@@ -122,4 +129,46 @@ public interface OrdersRepository extends JpaRepository<Orders, Long> {
             "WHERE o.id = :orderId")
     Optional<Orders> findByIdWithDetails(@Param("orderId") Long orderId);
 
+    /**
+     * 제조 상태 변경
+     */
+    @Modifying
+    @Query("UPDATE Orders o SET o.productionStatus = :status WHERE o.id = :orderId")
+    int updateProductionStatus(@Param("orderId") Long orderId, @Param("status") String status);
+
+    /**
+     * 제조 대기열 복원용 (픽업완료 전 주문)
+     */
+    interface ActiveOrderRow {
+        Long getOrderId();
+        Long getBranchId();
+        Long getMemberId();
+        String getProductionStatus();
+        Boolean getIsTakeout();
+        LocalDateTime getOrderDate();
+        LocalDateTime getPickupTime();
+        String getRepresentativeProductName();
+        Integer getItemCount();
+    }
+
+    @Query("SELECT o.id AS orderId, o.branch.id AS branchId, o.member.id AS memberId, " +
+            "o.productionStatus AS productionStatus, o.isTakeout AS isTakeout, " +
+            "o.orderDate AS orderDate, o.pickupTime AS pickupTime, " +
+            "s.representativeProductName AS representativeProductName, s.itemCount AS itemCount " +
+            "FROM Orders o, OrdersSummary s " +
+            "WHERE s.orderId = o.id AND o.productionStatus <> :doneStatus " +
+            "ORDER BY o.id")
+    List<ActiveOrderRow> findActiveOrders(@Param("doneStatus") String doneStatus);
+
+    /**
+     * 픽업 시간대 용량 복원용
+     */
+    interface PickupRow {
+        Long getBranchId();
+        LocalDateTime getPickupTime();
+    }
+
+    @Query("SELECT o.branch.id AS branchId, o.pickupTime AS pickupTime FROM Orders o WHERE o.pickupTime >= :from")
+    List<PickupRow> findPickupsFrom(@Param("from") LocalDateTime from);
+
 }
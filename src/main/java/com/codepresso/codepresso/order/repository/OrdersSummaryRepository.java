@@ -0,0 +1,56 @@
+package com.codepresso.codepresso.order.repository;
+
+import com.codepresso.codepresso.order.entity.OrdersSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrdersSummaryRepository extends JpaRepository<OrdersSummary, Long> {
+
+    /**
+     * 회원별 주문 목록 첫 페이지 (keyset 페이징)
+     * (member_id, order_date, order_id) 인덱스 범위 조회, 조인/COUNT 쿼리 없음
+     */
+    @Query("""
+                SELECT s FROM OrdersSummary s
+                WHERE s.memberId = :memberId
+                AND s.orderDate >= :startDate
+                ORDER BY s.orderDate DESC, s.orderId DESC
+            """)
+    List<OrdersSummary> findFirstPageByMemberId(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDateTime startDate,
+            Pageable pageable
+    );
+
+    /**
+     * 회원별 주문 목록 다음 페이지 (keyset 페이징)
+     * 직전 페이지 마지막 (orderDate, orderId) 이후부터 조회
+     */
+    @Query("""
+                SELECT s FROM OrdersSummary s
+                WHERE s.memberId = :memberId
+                AND s.orderDate >= :startDate
+                AND (s.orderDate < :cursorDate OR (s.orderDate = :cursorDate AND s.orderId < :cursorId))
+                ORDER BY s.orderDate DESC, s.orderId DESC
+            """)
+    List<OrdersSummary> findPageByMemberIdAfterCursor(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 제조 상태 변경
+     */
+    @Modifying
+    @Query("UPDATE OrdersSummary s SET s.productionStatus = :status WHERE s.orderId = :orderId")
+    int updateProductionStatus(@Param("orderId") Long orderId, @Param("status") String status);
+}
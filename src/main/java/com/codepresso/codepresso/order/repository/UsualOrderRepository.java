@@ -0,0 +1,41 @@
+package com.codepresso.codepresso.order.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 회원 주문 이력 스트리밍 ("자주 주문한 메뉴" 프로필 생성용)
+ * 집계 없이 주문 상세 x 옵션 행을 그대로 흘려보내고, 묶기는 호출 쪽에서 처리
+ */
+@Repository
+public class UsualOrderRepository {
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public UsualOrderRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 회원의 주문 상세를 hot/보관 테이블에서 스트리밍 (order_detail_id 순, 옵션 수만큼 행 반복)
+     * 컬럼 순서 : order_detail_id, product_id, order_date, option_id(null 가능)
+     */
+    public void streamMemberOrderLines(Long memberId, RowCallbackHandler handler) {
+        streamingJdbcTemplate.query(
+                "SELECT d.order_detail_id, d.product_id, o.order_date, io.option_id " +
+                "FROM orders o JOIN order_detail d ON d.order_id = o.order_id " +
+                "LEFT JOIN order_item_options io ON io.order_detail_id = d.order_detail_id " +
+                "WHERE o.member_id = ? " +
+                "UNION ALL " +
+                "SELECT d.order_detail_id, d.product_id, o.order_date, io.option_id " +
+                "FROM orders_archive o JOIN order_detail_archive d ON d.order_id = o.order_id " +
+                "LEFT JOIN order_item_options_archive io ON io.order_detail_id = d.order_detail_id " +
+                "WHERE o.member_id = ? " +
+                "ORDER BY 1",
+                handler, memberId, memberId);
+    }
+}
@@ -0,0 +1,105 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.common.config.OrderArchiveConfig;
+import com.codepresso.codepresso.order.repository.OrderArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오래된 주문 아카이브
+ * - 기준일(horizon) 이전 주문을 PK 순서로 chunk 단위 이동, chunk마다 별도 트랜잭션
+ * - 진행 위치(checkpoint)를 같은 트랜잭션에 기록하여 중단되더라도 이어서 진행
+ * - checkpoint 는 빈틈없이 처리된 구간 끝까지만 이동 : 기준일 이후 주문(ID 는 작지만 늦게 기록)을 만나면 그 앞에서 멈추고
+ *   뒤쪽 주문은 이동만 하여, 다음 실행이 멈춘 곳부터 다시 스캔
+ * - 리뷰/결제가 연결된 주문은 FK 때문에 hot 테이블에 남김 (계속 남으므로 checkpoint 를 막지 않음)
+ */
+@Slf4j
+@Service
+public class OrderArchiveService {
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderArchiveConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderArchiveService(OrderArchiveRepository orderArchiveRepository,
+                               OrderArchiveConfig config,
+                               PlatformTransactionManager transactionManager) {
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.order.archive.cron:0 30 4 * * *}")
+    public void scheduledArchive() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            archive();
+        } catch (Exception e) {
+            log.error("[OrderArchive] failed", e);
+        }
+    }
+
+    /**
+     * 아카이브 실행
+     * @return 이동한 주문 수
+     */
+    public int archive() {
+        LocalDateTime horizon = LocalDateTime.now().minusMonths(config.getEffectiveHorizonMonths());
+        long upperBound = orderArchiveRepository.findUpperBound(horizon);
+        long checkpoint = orderArchiveRepository.loadCheckpoint();
+
+        int[] moved = {0};
+        long scanned = checkpoint;              // 이번 실행에서 스캔한 마지막 ID
+        boolean[] blocked = {false};            // 기준일 이후 주문을 만나 checkpoint 가 멈췄는지
+        while (scanned < upperBound) {
+            long from = scanned;
+            long contiguousFrom = checkpoint;
+            long[] result = transactionTemplate.execute(status -> {
+                List<OrderArchiveRepository.ScanRow> rows =
+                        orderArchiveRepository.scan(from, upperBound, horizon, config.getChunkSize());
+                if (rows.isEmpty()) {
+                    long contiguous = blocked[0] ? contiguousFrom : upperBound;
+                    if (contiguous != contiguousFrom) {
+                        orderArchiveRepository.saveCheckpoint(contiguous);
+                    }
+                    return new long[]{upperBound, contiguous};
+                }
+
+                List<Long> targets = new ArrayList<>(rows.size());
+                long contiguous = contiguousFrom;
+                for (OrderArchiveRepository.ScanRow row : rows) {
+                    if (row.archivable()) {
+                        targets.add(row.orderId());
+                    }
+                    if (!row.expired()) {
+                        blocked[0] = true;
+                    }
+                    if (!blocked[0]) {
+                        contiguous = row.orderId();
+                    }
+                }
+                moved[0] += orderArchiveRepository.moveToArchive(targets);
+
+                if (contiguous != contiguousFrom) {
+                    orderArchiveRepository.saveCheckpoint(contiguous);
+                }
+                return new long[]{rows.get(rows.size() - 1).orderId(), contiguous};
+            });
+
+            scanned = result[0];
+            checkpoint = result[1];
+        }
+
+        log.info("[OrderArchive] horizon={}, checkpoint={}, moved={}", horizon, checkpoint, moved[0]);
+        return moved[0];
+    }
+}
@@ -0,0 +1,95 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.order.repository.OrderExportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * 주문 CSV 내보내기
+ * DB 커서에서 읽은 행을 고정 크기 버퍼로 바로 응답 스트림에 기록 (행 수와 무관한 메모리 사용)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final String HEADER =
+            "order_id,order_date,branch_id,branch_name,member_id,production_status,takeout," +
+            "pickup_time,product_name,quantity,price,total_amount,discount_amount,final_amount\n";
+
+    private final OrderExportRepository orderExportRepository;
+
+    /**
+     * [from, to] 기간 주문 상세 CSV
+     */
+    public StreamingResponseBody exportCsv(LocalDate from, LocalDate to, Long branchId) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write('\uFEFF');    // 엑셀 한글 깨짐 방지 BOM
+            writer.write(HEADER);
+
+            try {
+                orderExportRepository.streamOrderLines(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), branchId,
+                        rs -> writeRow(writer, rs));
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 끊김 등
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private void writeRow(Writer writer, ResultSet rs) throws SQLException {
+        try {
+            int columns = rs.getMetaData().getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                Object value = rs.getObject(i);
+                if (value instanceof Timestamp timestamp) {
+                    writer.write(timestamp.toLocalDateTime().toString());
+                } else if (value != null) {
+                    writeEscaped(writer, value.toString());
+                }
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeEscaped(Writer writer, String value) throws IOException {
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -3,138 +3,190 @@ package com.codepresso.codepresso.order.service;
 import com.codepresso.codepresso.order.converter.OrderConverter;
 import com.codepresso.codepresso.order.dto.OrderDetailResponse;
 import com.codepresso.codepresso.order.dto.OrderListResponse;
-import com.codepresso.codepresso.order.dto.OrderSummaryDto;
+import com.codepresso.codepresso.common.config.OrderArchiveConfig;
+import com.codepresso.codepresso.order.repository.MemberOrderCountRepository;
+import com.codepresso.codepresso.order.repository.OrderArchiveRepository;
 import com.codepresso.codepresso.order.repository.OrdersDetailRepository;
 import com.codepresso.codepresso.order.repository.OrdersRepository;
+import com.codepresso.codepresso.order.repository.OrdersSummaryRepository;
 import com.codepresso.codepresso.review.dto.OrdersDetailResponse;
 import com.codepresso.codepresso.order.entity.Orders;
 import com.codepresso.codepresso.order.entity.OrdersDetail;
 import com.codepresso.codepresso.order.entity.OrdersItemOptions;
+import com.codepresso.codepresso.order.entity.OrdersSummary;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class OrderServiceImproveGetOrderList {
 
     private final OrdersRepository ordersRepository;
+    private final OrdersSummaryRepository ordersSummaryRepository;
+    private final MemberOrderCountRepository memberOrderCountRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderArchiveConfig orderArchiveConfig;
     private final OrdersDetailRepository ordersDetailRepository;
     private final OrderConverter orderConverter;
 
     /**
-     * 주문 목록 조회
+     * 주문 목록 조회 (keyset 페이징)
+     * cursor : 직전 페이지 마지막 주문의 "orderDate_orderId" (첫 페이지는 null)
+     * page   : 화면 표시용 페이지 번호
      */
-    public OrderListResponse getOrderList(Long memberId, String period, int page, int size) {
+    public OrderListResponse getOrderList(Long memberId, String period, String cursor, int page, int size) {
         // 기간 계산
         LocalDateTime startDate = calculateStartDate(period);
 
-        // Pageable 객체 생성 (페이지 번호, 사이즈, 정렬 조건)
-        Pageable pageable = PageRequest.of(page, size, Sort.by("orderDate").descending());
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        Pageable limit = PageRequest.of(0, size + 1);
 
-        // 전체 건수 (기간 무관)
-        long totalCount = ordersRepository.countByMemberId(memberId);
+        // order_summary 단일 테이블 인덱스 범위 조회
+        List<OrdersSummary> rows;
+        LocalDateTime cursorDate = null;
+        Long cursorId = null;
+        if (cursor == null || cursor.isBlank()) {
+            rows = ordersSummaryRepository.findFirstPageByMemberId(memberId, startDate, limit);
+        } else {
+            int sep = cursor.lastIndexOf('_');
+            try {
+                cursorDate = LocalDateTime.parse(cursor.substring(0, sep));
+                cursorId = Long.parseLong(cursor.substring(sep + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+            }
+            rows = ordersSummaryRepository.findPageByMemberIdAfterCursor(memberId, startDate, cursorDate, cursorId, limit);
+        }
 
-        List<OrderListResponse.OrderSummary> orderSummaries = new ArrayList<>();
-        long totalElements;
-        int totalPages;
-        boolean hasNext;
-        boolean hasPrevious;
+        // "전체"는 보관 테이블까지 합쳐서 조회 (기간 필터는 보관 기준보다 짧으므로 hot 테이블만)
+        if ("전체".equals(period) && needsArchive(rows, size)) {
+            List<OrdersSummary> archived = orderArchiveRepository.findSummaries(memberId, cursorDate, cursorId, size + 1);
+            rows = mergeByOrderDateDesc(rows, archived, size + 1);
+        }
 
-        if ("전체".equals(period)) {
-            Page<OrderSummaryDto> projectionsPage = ordersRepository.findByMemberIdWithPaging2(memberId, pageable);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
 
-            for (OrderSummaryDto projection : projectionsPage.getContent()) {
-                OrderListResponse.OrderSummary orderSummary = convertProjectionToOrderSummary(projection);
-                orderSummaries.add(orderSummary);
-            }
+        List<OrderListResponse.OrderSummary> orderSummaries = new ArrayList<>();
+        for (OrdersSummary summary : rows) {
+            orderSummaries.add(convertToOrderSummary(summary));
+        }
 
-            totalElements = projectionsPage.getTotalElements();
-            totalPages = projectionsPage.getTotalPages();
-            hasNext = projectionsPage.hasNext();
-            hasPrevious = projectionsPage.hasPrevious();
-        } else {
-            // 기존 방식 (기간 필터가 있는 경우)
-            Page<OrderSummaryDto> ordersPage = ordersRepository.findByMemberIdAndDateWithPaging2(memberId, startDate, pageable);
+        String nextCursor = null;
+        if (hasNext) {
+            OrdersSummary last = rows.get(rows.size() - 1);
+            nextCursor = last.getOrderDate() + "_" + last.getOrderId();
+        }
 
-            for (OrderSummaryDto orderSummaryDto : ordersPage.getContent()) {
-                OrderListResponse.OrderSummary orderSummary = convertToOrderSummary(orderSummaryDto);
-                orderSummaries.add(orderSummary);
-            }
+        // 전체 건수 (기간 무관) - 주문 저장 시 갱신되는 회원별 카운터
+        long totalCount = memberOrderCountRepository.findOrderCount(memberId).orElse(0L);
 
-            totalElements = ordersPage.getTotalElements();
-            totalPages = ordersPage.getTotalPages();
-            hasNext = ordersPage.hasNext();
-            hasPrevious = ordersPage.hasPrevious();
+        // 기간 필터 건수는 "전체"일 때만 카운터로 알 수 있음
+        Integer filteredCount = null;
+        Integer totalPages = null;
+        if ("전체".equals(period)) {
+            filteredCount = (int) totalCount;
+            totalPages = (int) ((totalCount + size - 1) / size);
         }
 
         // 페이징 정보 포함하여 반환
         return OrderListResponse.builder()
                 .orders(orderSummaries)
                 .totalCount(totalCount)
-                .filteredCount((int) totalElements) // 기간 필터 적용된 전체 수
+                .filteredCount(filteredCount)
                 .currentPage(page)
                 .totalPages(totalPages)
                 .pageSize(size)
                 .hasNext(hasNext)
-                .hasPrevious(hasPrevious)
+                .hasPrevious(cursor != null && !cursor.isBlank())
+                .nextCursor(nextCursor)
                 .build();
     }
 
     /**
-     * 주문 상세 조회
+     * 주문 상세 조회 (hot 테이블에 없으면 보관 테이블 조회)
+     * 픽업완료 주문은 변경되지 않으므로 캐시 (재조회 시 SQL 없음)
      */
+    @Cacheable(value = "completedOrderDetails", key = "#orderId",
+            unless = "#result == null || #result.productionStatus != '픽업완료'")
     public OrderDetailResponse getOrderDetail(Long orderId) {
         // 1차 쿼리: Orders + Branch + Member + OrdersDetails + Product
-        Orders orders = ordersRepository.findByIdWithDetails(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
+        Optional<Orders> orders = ordersRepository.findByIdWithDetails(orderId);
+        if (orders.isPresent()) {
+            return convertToOrderDetail(orders.get());
+        }
 
-        return convertToOrderDetail(orders);
+        return orderArchiveRepository.findOrderDetail(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
     }
 
     /**
-     * OrderSummaryProjection을 OrderListResponse.OrderSummary로 변환
-     * isRepresentative를 활용한 최적화된 쿼리 결과를 변환
+     * 보관 테이블 조회 필요 여부
+     * 보관된 주문은 모두 보관 기준일 이전이므로, hot 결과로 한 페이지가 다 찼고 마지막 주문이 기준일 이후라면 생략
      */
-    private OrderListResponse.OrderSummary convertProjectionToOrderSummary(OrderSummaryDto projection) {
-        // TODO: orderNumber 생성을 위해서는 Orders 엔티티가 필요하므로 임시로 간단한 형식 사용
-        // 실제로는 주문번호 생성 로직을 별도로 처리하거나 Projection에 포함시켜야 함
-        String orderNumber = projection.getOrderId().toString();
+    private boolean needsArchive(List<OrdersSummary> hotRows, int size) {
+        if (hotRows.size() <= size) {
+            return true;
+        }
+        LocalDateTime horizon = LocalDateTime.now().minusMonths(orderArchiveConfig.getEffectiveHorizonMonths());
+        return hotRows.get(hotRows.size() - 1).getOrderDate().isBefore(horizon);
+    }
 
-        return OrderListResponse.OrderSummary.builder()
-                .orderId(projection.getOrderId())
-                .orderNumber(orderNumber)
-                .orderDate(projection.getOrderDate())
-                .productionStatus(projection.getProductionStatus())
-                .branchName(projection.getBranchName())
-                .isTakeout(projection.getIsTakeout())
-                .pickupTime(projection.getPickupTime())
-                .totalAmount(projection.getTotalAmount())
-                .representativeName(projection.getRepresentativeProductName())
-                .build();
+    /**
+     * (orderDate DESC, orderId DESC) 정렬된 두 목록 병합
+     */
+    private List<OrdersSummary> mergeByOrderDateDesc(List<OrdersSummary> a, List<OrdersSummary> b, int limit) {
+        List<OrdersSummary> merged = new ArrayList<>(Math.min(limit, a.size() + b.size()));
+        int i = 0, j = 0;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            if (j >= b.size()) {
+                merged.add(a.get(i++));
+            } else if (i >= a.size()) {
+                merged.add(b.get(j++));
+            } else {
+                OrdersSummary x = a.get(i);
+                OrdersSummary y = b.get(j);
+                int cmp = x.getOrderDate().compareTo(y.getOrderDate());
+                if (cmp == 0) {
+                    cmp = x.getOrderId().compareTo(y.getOrderId());
+                }
+                merged.add(cmp >= 0 ? a.get(i++) : b.get(j++));
+            }
+        }
+        return merged;
     }
 
-    private OrderListResponse.OrderSummary convertToOrderSummary(OrderSummaryDto projection) {
-        // 대표 상품명 계산
-        String orderNumber = projection.getOrderId().toString();
+    /**
+     * order_summary 행을 OrderListResponse.OrderSummary로 변환
+     */
+    private OrderListResponse.OrderSummary convertToOrderSummary(OrdersSummary summary) {
+        String representativeName = summary.getRepresentativeProductName();
+        if (representativeName == null) {
+            representativeName = "주문 상품 없음";
+        } else if (summary.getItemCount() != null && summary.getItemCount() > 1) {
+            representativeName = representativeName + " 외 " + (summary.getItemCount() - 1) + "개";
+        }
 
         return OrderListResponse.OrderSummary.builder()
-                .orderId(projection.getOrderId())
-                .orderNumber(orderNumber)
-                .orderDate(projection.getOrderDate())
-                .productionStatus(projection.getProductionStatus())
-                .branchName(projection.getBranchName())
-                .isTakeout(projection.getIsTakeout())
-                .pickupTime(projection.getPickupTime())
-                .totalAmount(projection.getTotalAmount())
-                .representativeName(projection.getRepresentativeProductName())
+                .orderId(summary.getOrderId())
+                .orderNumber(summary.getOrderId().toString())
+                .orderDate(summary.getOrderDate())
+                .productionStatus(summary.getProductionStatus())
+                .branchName(summary.getBranchName())
+                .isTakeout(summary.getIsTakeout())
+                .pickupTime(summary.getPickupTime())
+                .totalAmount(summary.getTotalAmount())
+                .representativeName(representativeName)
                 .build();
     }
 
@@ -0,0 +1,59 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.order.entity.Orders;
+import com.codepresso.codepresso.order.entity.OrdersDetail;
+import com.codepresso.codepresso.order.entity.OrdersSummary;
+import com.codepresso.codepresso.product.service.CatalogNameDictionary;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 요약(order_summary) 기록
+ * 주문 저장 직후 같은 트랜잭션에서 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class OrdersSummaryWriter {
+
+    private final EntityManager entityManager;
+    private final CatalogNameDictionary catalogNameDictionary;
+
+    public OrdersSummary write(Orders savedOrder) {
+        List<OrdersDetail> details = savedOrder.getOrdersDetails();
+
+        OrdersDetail representative = null;
+        for (OrdersDetail detail : details) {
+            if (detail.isRepresentative()) {
+                representative = detail;
+                break;
+            }
+        }
+        if (representative == null && !details.isEmpty()) {
+            representative = details.get(0);
+        }
+
+        // 상품 프록시 초기화 없이 이름 조회
+        Long productId = representative != null ? representative.getProduct().getId() : null;
+        String productName = productId != null ? catalogNameDictionary.getProductName(productId) : null;
+
+        OrdersSummary summary = OrdersSummary.builder()
+                .orderId(savedOrder.getId())
+                .memberId(savedOrder.getMember().getId())
+                .branchName(savedOrder.getBranch().getBranchName())
+                .orderDate(savedOrder.getOrderDate())
+                .productionStatus(savedOrder.getProductionStatus())
+                .isTakeout(savedOrder.getIsTakeout())
+                .pickupTime(savedOrder.getPickupTime())
+                .totalAmount(savedOrder.getTotalAmount())
+                .representativeProductId(productId)
+                .representativeProductName(productName)
+                .itemCount(details.size())
+                .build();
+        // PK를 직접 지정하므로 repository.save(merge) 대신 persist로 SELECT 없이 INSERT
+        entityManager.persist(summary);
+        return summary;
+    }
+}
@@ -0,0 +1,268 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.common.config.PickupSlotConfig;
+import com.codepresso.codepresso.order.repository.OrdersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 지점별 픽업 시간대 용량 관리
+ * - 시간대(slot) = epoch 분 / slotMinutes
+ * - 지점마다 horizonSlots 크기의 원형 배열, 각 칸은 (slot 번호 << 16 | 예약 수) 를 CAS로 갱신 (락 없음)
+ *   칸의 slot 번호가 다르면 지난 시간대이므로 예약 수 0으로 간주
+ * - 지점별 "가장 이른 빈 시간대" 힌트를 두어 가장 이른 빈 시간대를 상수 시간(분할 상환)에 찾음
+ *   힌트 앞의 (지나지 않은) 시간대는 모두 가득 참. 가득 차면 CAS로 앞으로 밀고, 반납되면 그 시간대로 당김
+ * - 서버 시작 시 orders 의 앞으로의 픽업 시각으로 복원
+ */
+@Slf4j
+@Component
+public class PickupSlotScheduler {
+
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final PickupSlotConfig config;
+    private final OrdersRepository ordersRepository;
+    private final ConcurrentHashMap<Long, BranchSlots> branches = new ConcurrentHashMap<>();
+
+    public PickupSlotScheduler(PickupSlotConfig config, OrdersRepository ordersRepository) {
+        this.config = config;
+        this.ordersRepository = ordersRepository;
+    }
+
+    /**
+     * 다음 빈 픽업 시각 제안 (예약하지 않음)
+     */
+    public LocalDateTime nextAvailable(Long branchId) {
+        long earliest = earliestSlot();
+        return toTime(branch(branchId).findFree(earliest, earliest, earliest + config.getHorizonSlots()));
+    }
+
+    /**
+     * 픽업 시각 예약 (주문 저장 트랜잭션 안에서 호출)
+     * 요청 시간대가 가득 찼으면 다음 빈 시간대로 옮겨서 예약하고, 트랜잭션이 롤백되면 반납
+     * @return 확정된 픽업 시각
+     */
+    public LocalDateTime reserve(Long branchId, LocalDateTime requested) {
+        long earliest = earliestSlot();
+        long limit = earliest + config.getHorizonSlots();
+        long slot = requested != null ? Math.max(toSlot(requested), earliest) : earliest;
+
+        // 관리 범위(horizon) 밖의 먼 예약은 용량 제한 없이 그대로 수락
+        if (slot >= limit) {
+            return requested;
+        }
+
+        BranchSlots slots = branch(branchId);
+        while (slot < limit && !slots.tryIncrement(slot)) {
+            slot = slots.findFree(earliest, slot + 1, limit);
+        }
+        if (slot >= limit) {
+            // 관리 범위 안이 모두 가득 찬 경우 범위 다음 시간대로 (용량 집계 없음)
+            return toTime(slot);
+        }
+
+        LocalDateTime pickupTime = requested != null && toSlot(requested) == slot ? requested : toTime(slot);
+
+        long reserved = slot;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(branchId, reserved);
+                    }
+                }
+            });
+        }
+        return pickupTime;
+    }
+
+    /**
+     * 서버 시작 시 앞으로의 픽업 예약 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            long earliest = earliestSlot();
+            long limit = earliest + config.getHorizonSlots();
+            int count = 0;
+            for (OrdersRepository.PickupRow row : ordersRepository.findPickupsFrom(toTime(earliest))) {
+                long slot = toSlot(row.getPickupTime());
+                if (slot < limit) {
+                    branch(row.getBranchId()).forceIncrement(slot);
+                    count++;
+                }
+            }
+            log.info("[PickupSlot] reconciled {} pickups", count);
+        } catch (Exception e) {
+            log.warn("[PickupSlot] reconcile failed", e);
+        }
+    }
+
+    private void release(Long branchId, long slot) {
+        branch(branchId).decrement(slot);
+    }
+
+    private BranchSlots branch(Long branchId) {
+        return branches.computeIfAbsent(branchId, k -> new BranchSlots(config.getHorizonSlots(), config.getCapacity(), earliestSlot()));
+    }
+
+    private long earliestSlot() {
+        // 최소 준비 시간 이후 시작하는 첫 시간대
+        long minutes = LocalDateTime.now().plusMinutes(config.getMinLeadMinutes()).atZone(ZONE).toEpochSecond() / 60;
+        return (minutes + config.getSlotMinutes() - 1) / config.getSlotMinutes();
+    }
+
+    private long toSlot(LocalDateTime time) {
+        return time.atZone(ZONE).toEpochSecond() / 60 / config.getSlotMinutes();
+    }
+
+    private LocalDateTime toTime(long slot) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(slot * config.getSlotMinutes() * 60L), ZONE);
+    }
+
+    /**
+     * 지점 하나의 시간대 용량 (원형 배열)
+     */
+    static final class BranchSlots {
+        private final AtomicLongArray cells;
+        private final int capacity;
+        // 이보다 앞선 (지나지 않은) 시간대는 가득 참. 반납 시 항상 새 객체로 바꿔 진행 중인 CAS 전진을 무효화
+        private final AtomicReference<Hint> firstFreeHint;
+
+        BranchSlots(int size, int capacity, long startSlot) {
+            this.cells = new AtomicLongArray(size);
+            this.capacity = capacity;
+            this.firstFreeHint = new AtomicReference<>(new Hint(startSlot));
+        }
+
+        boolean tryIncrement(long slot) {
+            int index = index(slot);
+            while (true) {
+                long cell = cells.get(index);
+                int count = countOf(cell, slot);
+                if (count >= capacity) {
+                    return false;
+                }
+                if (cells.compareAndSet(index, cell, pack(slot, count + 1))) {
+                    if (count + 1 >= capacity) {
+                        advanceHint();
+                    }
+                    return true;
+                }
+            }
+        }
+
+        void forceIncrement(long slot) {
+            int index = index(slot);
+            while (true) {
+                long cell = cells.get(index);
+                int count = countOf(cell, slot);
+                if (cells.compareAndSet(index, cell, pack(slot, Math.min(count + 1, (int) COUNT_MASK)))) {
+                    if (count + 1 >= capacity) {
+                        advanceHint();
+                    }
+                    return;
+                }
+            }
+        }
+
+        void decrement(long slot) {
+            int index = index(slot);
+            while (true) {
+                long cell = cells.get(index);
+                int count = countOf(cell, slot);
+                if (count == 0) {
+                    return;
+                }
+                if (cells.compareAndSet(index, cell, pack(slot, count - 1))) {
+                    // 빈자리가 생겼으므로 힌트를 앞으로 당김
+                    firstFreeHint.updateAndGet(h -> new Hint(Math.min(h.slot(), slot)));
+                    return;
+                }
+            }
+        }
+
+        /**
+         * from 이후 첫 빈 시간대 (없으면 limit)
+         * from 이 힌트 이하이면 힌트부터 탐색하고, 찾은 시간대로 힌트를 전진
+         * @param earliest 지금 예약 가능한 가장 이른 시간대 (이보다 앞선 힌트는 여기로 재설정)
+         */
+        long findFree(long earliest, long from, long limit) {
+            Hint hint = rebase(earliest);
+            long slot = Math.max(from, hint.slot());
+            while (slot < limit && isFull(slot)) {
+                slot++;
+            }
+            if (from <= hint.slot() && slot > hint.slot()) {
+                firstFreeHint.compareAndSet(hint, new Hint(slot));
+            }
+            return slot;
+        }
+
+        long hint() {
+            return firstFreeHint.get().slot();
+        }
+
+        private Hint rebase(long earliest) {
+            while (true) {
+                Hint hint = firstFreeHint.get();
+                if (hint.slot() >= earliest) {
+                    return hint;
+                }
+                // 지난 시간대는 예약 대상이 아니므로 힌트를 지금 시간대로 옮김
+                Hint rebased = new Hint(earliest);
+                if (firstFreeHint.compareAndSet(hint, rebased)) {
+                    return rebased;
+                }
+            }
+        }
+
+        private void advanceHint() {
+            // 힌트 위치의 시간대가 가득 찼으면 빈 시간대가 나올 때까지 앞으로 이동
+            while (true) {
+                Hint hint = firstFreeHint.get();
+                long slot = hint.slot();
+                long end = slot + cells.length();
+                while (slot < end && isFull(slot)) {
+                    slot++;
+                }
+                if (slot == hint.slot() || firstFreeHint.compareAndSet(hint, new Hint(slot))) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isFull(long slot) {
+            return countOf(cells.get(index(slot)), slot) >= capacity;
+        }
+
+        private int index(long slot) {
+            return (int) Math.floorMod(slot, (long) cells.length());
+        }
+
+        private static int countOf(long cell, long slot) {
+            return (cell >>> COUNT_BITS) == slot ? (int) (cell & COUNT_MASK) : 0;
+        }
+
+        private static long pack(long slot, int count) {
+            return (slot << COUNT_BITS) | count;
+        }
+
+        private record Hint(long slot) {
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.common.config.PrepTimeConfig;
+import com.codepresso.codepresso.order.entity.ProductionStatus;
+import com.codepresso.codepresso.order.event.OrderCreatedEvent;
+import com.codepresso.codepresso.product.repository.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지점 x 상품 카테고리별 제조 시간 추정 (EWMA)
+ * - 표본 : 주문 시각 ~ 제조완료 전환 시각 (대기 시간 포함, 지점이 붐비면 함께 늘어남)
+ * - 값은 [지점 순번 * MAX_CATEGORIES + 카테고리 순번] 위치의 double(비트) 배열에 보관
+ * - 추정 : 주문에 포함된 카테고리 칸 중 최댓값 (카테고리 수 만큼만 읽으므로 O(1))
+ * - 정확도 : 주문 시 추정값과 실제 제조완료까지 걸린 시간의 차이를 분포로 기록
+ */
+@Slf4j
+@Component
+public class PrepTimeEstimator {
+
+    private static final int MAX_CATEGORIES = 32;      // 카테고리 순번을 int 비트마스크로 표현
+    private static final long CATEGORY_RELOAD_INTERVAL_MILLIS = 60_000L;   // 없는 상품 ID 때문에 매번 재적재하지 않도록
+
+    private final PrepTimeConfig config;
+    private final ProductRepository productRepository;
+    private final DistributionSummary etaError;
+    private final DistributionSummary prepDuration;
+
+    private final ConcurrentHashMap<Long, Integer> branchOrdinals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> categoryOrdinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextBranchOrdinal = new AtomicInteger();
+    private final AtomicInteger nextCategoryOrdinal = new AtomicInteger();
+
+    // 0 = 표본 없음, 그 외 Double.doubleToRawLongBits(초). 갱신/확장은 synchronized, 조회는 락 없음
+    private volatile AtomicLongArray ewma = new AtomicLongArray(16 * MAX_CATEGORIES);
+
+    // 상품 ID -> 카테고리 ID (최초 사용 시 적재, 없는 상품이 나오면 마지막 적재 후 1분이 지났을 때만 다시 적재)
+    private volatile Map<Long, Long> productCategories;
+    private volatile long productCategoriesLoadedAt;
+
+    // 제조완료 전 주문 : orderId -> 추정 정보
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    private record Pending(int branchOrdinal, int categoryMask, int predictedSeconds, LocalDateTime orderDate) {}
+
+    public PrepTimeEstimator(PrepTimeConfig config, ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.productRepository = productRepository;
+        this.etaError = DistributionSummary.builder("order.prep.eta.error")
+                .description("제조완료 예상 시각 오차 (절댓값)")
+                .baseUnit("seconds")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.prepDuration = DistributionSummary.builder("order.prep.duration")
+                .description("주문 ~ 제조완료 소요 시간")
+                .baseUnit("seconds")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 지점에서 해당 상품들을 주문했을 때 예상 제조 시간 (초)
+     */
+    public int estimateSeconds(Long branchId, Collection<Long> productIds) {
+        Integer branchOrdinal = branchOrdinals.get(branchId);
+        if (branchOrdinal == null) {
+            return config.getDefaultSeconds();
+        }
+        return estimate(branchOrdinal, categoryMask(productIds));
+    }
+
+    /**
+     * 주문의 예상 제조완료 시각 (제조완료 전 주문만, 그 외 null)
+     * 주문 이후 갱신된 추정값을 반영
+     */
+    public LocalDateTime estimateReadyAt(Long orderId) {
+        Pending p = pending.get(orderId);
+        if (p == null) {
+            return null;
+        }
+        return p.orderDate().plusSeconds(estimate(p.branchOrdinal(), p.categoryMask()));
+    }
+
+    /**
+     * 주문 생성 이벤트 (커밋 후) : 예상값을 기록해 두고 제조완료 시 실제 값과 비교
+     */
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        int branchOrdinal = branchOrdinal(event.branchId());
+        List<Long> productIds = event.lines().stream().map(OrderCreatedEvent.Line::productId).toList();
+        int mask = categoryMask(productIds);
+        pending.put(event.orderId(), new Pending(branchOrdinal, mask, estimate(branchOrdinal, mask), event.orderDate()));
+    }
+
+    /**
+     * 제조 상태 변경 (커밋 후 호출)
+     * 제조완료 시 표본 반영, 제조완료 없이 픽업완료되면 표본 없이 정리
+     */
+    public void onStatusChanged(Long orderId, ProductionStatus target) {
+        if (target != ProductionStatus.READY && target != ProductionStatus.PICKED_UP) {
+            return;
+        }
+        Pending p = pending.remove(orderId);
+        if (p == null || target != ProductionStatus.READY) {
+            return;
+        }
+
+        long actual = Duration.between(p.orderDate(), LocalDateTime.now()).getSeconds();
+        if (actual <= 0 || actual > config.getMaxSampleSeconds()) {
+            return;
+        }
+        prepDuration.record(actual);
+        etaError.record(Math.abs(actual - p.predictedSeconds()));
+        update(p.branchOrdinal(), p.categoryMask(), actual);
+    }
+
+    /**
+     * 제조완료/픽업완료 전환이 오지 않은 오래된 주문 정리
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void purgeStale() {
+        LocalDateTime limit = LocalDateTime.now().minusSeconds(config.getMaxSampleSeconds());
+        pending.values().removeIf(p -> p.orderDate().isBefore(limit));
+    }
+
+    private int estimate(int branchOrdinal, int mask) {
+        AtomicLongArray table = ewma;
+        double max = 0;
+        boolean sampled = false;
+        int base = branchOrdinal * MAX_CATEGORIES;
+        for (int m = mask; m != 0; m &= m - 1) {
+            int index = base + Integer.numberOfTrailingZeros(m);
+            if (index >= table.length()) {
+                break;
+            }
+            long bits = table.get(index);
+            if (bits != 0) {
+                max = Math.max(max, Double.longBitsToDouble(bits));
+                sampled = true;
+            }
+        }
+        return sampled ? (int) Math.ceil(max) : config.getDefaultSeconds();
+    }
+
+    private synchronized void update(int branchOrdinal, int mask, long sampleSeconds) {
+        int base = branchOrdinal * MAX_CATEGORIES;
+        AtomicLongArray table = ensureCapacity(base + MAX_CATEGORIES);
+        for (int m = mask; m != 0; m &= m - 1) {
+            int index = base + Integer.numberOfTrailingZeros(m);
+            long bits = table.get(index);
+            double next = bits == 0
+                    ? sampleSeconds
+                    : config.getAlpha() * sampleSeconds + (1 - config.getAlpha()) * Double.longBitsToDouble(bits);
+            table.set(index, Double.doubleToRawLongBits(next));
+        }
+    }
+
+    private AtomicLongArray ensureCapacity(int length) {
+        AtomicLongArray table = ewma;
+        if (table.length() >= length) {
+            return table;
+        }
+        AtomicLongArray grown = new AtomicLongArray(Math.max(length, table.length() * 2));
+        for (int i = 0; i < table.length(); i++) {
+            grown.set(i, table.get(i));
+        }
+        ewma = grown;
+        return grown;
+    }
+
+    private int branchOrdinal(Long branchId) {
+        return branchOrdinals.computeIfAbsent(branchId, k -> nextBranchOrdinal.getAndIncrement());
+    }
+
+    private int categoryMask(Collection<Long> productIds) {
+        Map<Long, Long> categories = productCategories();
+        int mask = 0;
+        boolean reloaded = false;
+        for (Long productId : productIds) {
+            Long categoryId = categories.get(productId);
+            if (categoryId == null && !reloaded
+                    && System.currentTimeMillis() - productCategoriesLoadedAt > CATEGORY_RELOAD_INTERVAL_MILLIS) {
+                categories = reloadProductCategories();
+                categoryId = categories.get(productId);
+                reloaded = true;
+            }
+            if (categoryId != null) {
+                mask |= 1 << categoryOrdinal(categoryId);
+            }
+        }
+        return mask;
+    }
+
+    private int categoryOrdinal(Long categoryId) {
+        // 카테고리가 MAX_CATEGORIES 를 넘으면 마지막 칸을 함께 사용
+        return categoryOrdinals.computeIfAbsent(categoryId,
+                k -> Math.min(nextCategoryOrdinal.getAndIncrement(), MAX_CATEGORIES - 1));
+    }
+
+    private Map<Long, Long> productCategories() {
+        Map<Long, Long> categories = productCategories;
+        return categories != null ? categories : reloadProductCategories();
+    }
+
+    private synchronized Map<Long, Long> reloadProductCategories() {
+        // 락을 기다리는 동안 다른 스레드가 적재했으면 그 결과 사용
+        if (productCategories != null && System.currentTimeMillis() - productCategoriesLoadedAt <= CATEGORY_RELOAD_INTERVAL_MILLIS) {
+            return productCategories;
+        }
+        Map<Long, Long> map = new HashMap<>();
+        for (ProductRepository.ProductSummary row : productRepository.findAllProducts()) {
+            if (row.getCategoryId() != null) {
+                map.put(row.getProductId(), row.getCategoryId());
+            }
+        }
+        productCategories = Collections.unmodifiableMap(map);
+        productCategoriesLoadedAt = System.currentTimeMillis();
+        log.debug("[PrepTimeEstimator] loaded {} product categories", map.size());
+        return productCategories;
+    }
+}
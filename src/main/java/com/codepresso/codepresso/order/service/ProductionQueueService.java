@@ -0,0 +1,197 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.common.transaction.TransactionCallbacks;
+import com.codepresso.codepresso.order.dto.ProductionQueueItem;
+import com.codepresso.codepresso.order.entity.ProductionStatus;
+import com.codepresso.codepresso.order.event.OrderCreatedEvent;
+import com.codepresso.codepresso.order.repository.OrdersRepository;
+import com.codepresso.codepresso.order.repository.OrdersSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 지점별 제조 대기열 (주문접수 -> 제조중 -> 제조완료 -> 픽업완료)
+ * - 주문 생성 이벤트(커밋 후)로 대기열에 추가, 픽업완료 시 제거
+ * - 상태 변경은 DB(orders, order_summary)에 반영 후 SSE로 직원 화면/고객 주문 상세에 전달
+ * - 서버 재시작 시 픽업완료 전 주문으로 대기열 복원
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductionQueueService {
+
+    private final OrdersRepository ordersRepository;
+    private final OrdersSummaryRepository ordersSummaryRepository;
+    private final ProductionStatusSseRegistry sseRegistry;
+    private final PrepTimeEstimator prepTimeEstimator;
+
+    // branchId -> (orderId -> 항목), orderId 오름차순 = 접수 순서
+    private final ConcurrentHashMap<Long, ConcurrentSkipListMap<Long, ProductionQueueItem>> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 생성 이벤트 (커밋 후) : 대기열에 추가하고 직원 화면에 전달
+     */
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        ProductionQueueItem item = ProductionQueueItem.builder()
+                .orderId(event.orderId())
+                .branchId(event.branchId())
+                .memberId(event.memberId())
+                .productionStatus(event.productionStatus())
+                .representativeName(representativeName(event.representativeProductName(), event.itemCount()))
+                .isTakeout(event.isTakeout())
+                .orderDate(event.orderDate())
+                .pickupTime(event.pickupTime())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        queueOf(item.getBranchId()).put(item.getOrderId(), item);
+        sseRegistry.publish(item);
+    }
+
+    /**
+     * 지점 대기열 조회 (접수 순)
+     */
+    public List<ProductionQueueItem> getQueue(Long branchId) {
+        ConcurrentSkipListMap<Long, ProductionQueueItem> queue = queues.get(branchId);
+        return queue == null ? List.of() : new ArrayList<>(queue.values());
+    }
+
+    /**
+     * 제조 상태 변경 (직원)
+     * 앞으로만 진행 가능, 픽업완료 시 대기열에서 제거
+     */
+    @Transactional
+    public ProductionQueueItem changeStatus(Long branchId, Long orderId, ProductionStatus target) {
+        ProductionQueueItem current = queueOf(branchId).get(orderId);
+        if (current == null) {
+            throw new IllegalArgumentException("대기열에 없는 주문입니다.");
+        }
+
+        ProductionStatus currentStatus = ProductionStatus.from(current.getProductionStatus());
+        if (target.ordinal() <= currentStatus.ordinal()) {
+            throw new IllegalArgumentException("이전 상태로 되돌릴 수 없습니다. (현재: " + currentStatus.getLabel() + ")");
+        }
+
+        ordersRepository.updateProductionStatus(orderId, target.getLabel());
+        ordersSummaryRepository.updateProductionStatus(orderId, target.getLabel());
+
+        ProductionQueueItem updated = ProductionQueueItem.builder()
+                .orderId(current.getOrderId())
+                .branchId(current.getBranchId())
+                .memberId(current.getMemberId())
+                .productionStatus(target.getLabel())
+                .representativeName(current.getRepresentativeName())
+                .isTakeout(current.getIsTakeout())
+                .orderDate(current.getOrderDate())
+                .pickupTime(current.getPickupTime())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        TransactionCallbacks.afterCommit(() -> {
+            if (target == ProductionStatus.PICKED_UP) {
+                queueOf(branchId).remove(orderId);
+            } else {
+                queueOf(branchId).put(orderId, updated);
+            }
+            sseRegistry.publish(updated);
+            prepTimeEstimator.onStatusChanged(orderId, target);
+            if (target == ProductionStatus.PICKED_UP) {
+                sseRegistry.completeOrder(orderId);
+            }
+        });
+        return updated;
+    }
+
+    /**
+     * 고객 주문 상태 구독
+     * 본인 주문이 대기열에 있으면 현재 상태를 바로 보내고, 없으면(픽업완료 등) 즉시 종료
+     */
+    public SseEmitter subscribeOrder(Long memberId, Long orderId) {
+        ProductionQueueItem item = findActive(orderId);
+        if (item == null || !item.getMemberId().equals(memberId)) {
+            SseEmitter emitter = new SseEmitter(0L);
+            emitter.complete();
+            return emitter;
+        }
+
+        SseEmitter emitter = sseRegistry.subscribeOrder(orderId);
+        try {
+            emitter.send(SseEmitter.event().name("status").data(item));
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 지점 대기열 구독 (직원 화면)
+     */
+    public SseEmitter subscribeBranch(Long branchId) {
+        return sseRegistry.subscribeBranch(branchId);
+    }
+
+    /**
+     * 서버 시작 시 픽업완료 전 주문으로 대기열 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            int count = 0;
+            for (OrdersRepository.ActiveOrderRow row : ordersRepository.findActiveOrders(ProductionStatus.PICKED_UP.getLabel())) {
+                ProductionQueueItem item = ProductionQueueItem.builder()
+                        .orderId(row.getOrderId())
+                        .branchId(row.getBranchId())
+                        .memberId(row.getMemberId())
+                        .productionStatus(row.getProductionStatus())
+                        .representativeName(representativeName(row.getRepresentativeProductName(), row.getItemCount()))
+                        .isTakeout(row.getIsTakeout())
+                        .orderDate(row.getOrderDate())
+                        .pickupTime(row.getPickupTime())
+                        .updatedAt(LocalDateTime.now())
+                        .build();
+                queueOf(item.getBranchId()).put(item.getOrderId(), item);
+                count++;
+            }
+            log.info("[ProductionQueue] restored {} active orders", count);
+        } catch (Exception e) {
+            log.warn("[ProductionQueue] restore failed", e);
+        }
+    }
+
+    private ProductionQueueItem findActive(Long orderId) {
+        for (ConcurrentSkipListMap<Long, ProductionQueueItem> queue : queues.values()) {
+            ProductionQueueItem item = queue.get(orderId);
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    private ConcurrentSkipListMap<Long, ProductionQueueItem> queueOf(Long branchId) {
+        return queues.computeIfAbsent(branchId, k -> new ConcurrentSkipListMap<>());
+    }
+
+    private static String representativeName(String productName, Integer itemCount) {
+        if (productName == null) {
+            return "주문 상품 없음";
+        }
+        if (itemCount != null && itemCount > 1) {
+            return productName + " 외 " + (itemCount - 1) + "개";
+        }
+        return productName;
+    }
+}
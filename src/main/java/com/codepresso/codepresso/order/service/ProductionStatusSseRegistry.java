@@ -0,0 +1,87 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.order.dto.ProductionQueueItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제조 상태 SSE 구독자 관리
+ * - 지점 구독 (직원 화면) : branchId -> emitters
+ * - 주문 구독 (고객 주문 상세) : orderId -> emitters
+ * ConcurrentHashMap + concurrent key set 으로 발행(순회) 시 락 없이 fan-out
+ */
+@Slf4j
+@Component
+public class ProductionStatusSseRegistry {
+
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;    // 30분, 이후 브라우저가 재연결
+
+    private final ConcurrentHashMap<Long, Set<SseEmitter>> branchSubscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<SseEmitter>> orderSubscribers = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribeBranch(Long branchId) {
+        return register(branchSubscribers, branchId);
+    }
+
+    public SseEmitter subscribeOrder(Long orderId) {
+        return register(orderSubscribers, orderId);
+    }
+
+    /**
+     * 상태 변경 발행 (지점 구독자 + 해당 주문 구독자)
+     */
+    public void publish(ProductionQueueItem item) {
+        send(branchSubscribers, item.getBranchId(), item);
+        send(orderSubscribers, item.getOrderId(), item);
+    }
+
+    /**
+     * 픽업완료 등으로 더 볼 것이 없는 주문 구독 종료
+     */
+    public void completeOrder(Long orderId) {
+        Set<SseEmitter> emitters = orderSubscribers.remove(orderId);
+        if (emitters != null) {
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    private SseEmitter register(ConcurrentHashMap<Long, Set<SseEmitter>> subscribers, Long key) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        Set<SseEmitter> emitters = subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+        emitters.add(emitter);
+
+        Runnable remove = () -> emitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // 연결 직후 더미 이벤트 (프록시 버퍼링/503 방지)
+        try {
+            emitter.send(SseEmitter.event().name("connect").data("connected"));
+        } catch (IOException e) {
+            emitters.remove(emitter);
+        }
+        return emitter;
+    }
+
+    private void send(ConcurrentHashMap<Long, Set<SseEmitter>> subscribers, Long key, ProductionQueueItem item) {
+        Set<SseEmitter> emitters = subscribers.get(key);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("status").data(item));
+            } catch (IOException | IllegalStateException e) {
+                // 끊어진 연결은 제거
+                emitters.remove(emitter);
+                log.debug("[SSE] subscriber removed: key={}, reason={}", key, e.getMessage());
+            }
+        }
+    }
+}
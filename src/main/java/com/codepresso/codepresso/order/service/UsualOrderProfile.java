@@ -0,0 +1,116 @@
+package com.codepresso.codepresso.order.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 회원별 "자주 주문한 메뉴" 프로필 (상품 + 옵션 조합 -> 주문 횟수, 마지막 주문 시각)
+ * 캐시에 객체 그래프 대신 long[] 하나로 보관
+ *
+ * 항목 배치 : [productId, meta, optionCount, optionId...]
+ *   meta = (주문 횟수 << 32) | 마지막 주문 시각(epoch 분)
+ * 항목 수는 MAX_ENTRIES 로 제한
+ *   - 이력으로 새로 만들 때 : 횟수/최근 순 상위만 유지
+ *   - 주문 반영으로 넘칠 때 : 가장 오래전에 주문한 항목을 버림 (새 메뉴가 바로 밀려나지 않도록)
+ */
+final class UsualOrderProfile {
+
+    static final int MAX_ENTRIES = 32;
+    static final long[] EMPTY = new long[0];
+
+    private UsualOrderProfile() {}
+
+    /**
+     * 항목 한 개 (디코딩 결과)
+     */
+    record Entry(long productId, long[] optionIds, int count, int lastMinute) {}
+
+    /**
+     * 주문 한 줄 반영 (optionIds 는 오름차순), 새 배열 반환
+     */
+    static long[] add(long[] profile, long productId, long[] optionIds, int minute) {
+        List<Entry> entries = decode(profile);
+        boolean found = false;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = entries.get(i);
+            if (e.productId() == productId && Arrays.equals(e.optionIds(), optionIds)) {
+                entries.set(i, new Entry(productId, e.optionIds(), e.count() + 1, Math.max(e.lastMinute(), minute)));
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            entries.add(new Entry(productId, optionIds, 1, minute));
+            if (entries.size() > MAX_ENTRIES) {
+                Entry oldest = entries.get(0);
+                for (Entry e : entries) {
+                    if (e.lastMinute() < oldest.lastMinute()) {
+                        oldest = e;
+                    }
+                }
+                entries.remove(oldest);
+            }
+        }
+        return encode(entries);
+    }
+
+    /**
+     * 이력 전체로 만든 항목 목록을 배열로 (횟수/최근 순 상위 MAX_ENTRIES 개)
+     */
+    static long[] build(List<Entry> entries) {
+        if (entries.size() <= MAX_ENTRIES) {
+            return encode(entries);
+        }
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(UsualOrderProfile::compareRank);
+        return encode(sorted.subList(0, MAX_ENTRIES));
+    }
+
+    private static long[] encode(List<Entry> entries) {
+        int length = 0;
+        for (Entry e : entries) {
+            length += 3 + e.optionIds().length;
+        }
+        long[] profile = new long[length];
+        int pos = 0;
+        for (Entry e : entries) {
+            profile[pos++] = e.productId();
+            profile[pos++] = ((long) e.count() << 32) | (e.lastMinute() & 0xFFFFFFFFL);
+            profile[pos++] = e.optionIds().length;
+            System.arraycopy(e.optionIds(), 0, profile, pos, e.optionIds().length);
+            pos += e.optionIds().length;
+        }
+        return profile;
+    }
+
+    static List<Entry> decode(long[] profile) {
+        List<Entry> entries = new ArrayList<>();
+        int pos = 0;
+        while (pos < profile.length) {
+            long productId = profile[pos];
+            long meta = profile[pos + 1];
+            int optionCount = (int) profile[pos + 2];
+            long[] optionIds = Arrays.copyOfRange(profile, pos + 3, pos + 3 + optionCount);
+            entries.add(new Entry(productId, optionIds, (int) (meta >>> 32), (int) meta));
+            pos += 3 + optionCount;
+        }
+        return entries;
+    }
+
+    /**
+     * 주문 횟수 내림차순, 같으면 최근 주문 순으로 상위 limit 개
+     */
+    static List<Entry> top(long[] profile, int limit) {
+        List<Entry> entries = decode(profile);
+        entries.sort(UsualOrderProfile::compareRank);
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private static int compareRank(Entry a, Entry b) {
+        if (a.count() != b.count()) {
+            return Integer.compare(b.count(), a.count());
+        }
+        return Integer.compare(b.lastMinute(), a.lastMinute());
+    }
+}
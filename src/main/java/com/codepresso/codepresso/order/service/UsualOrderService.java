@@ -0,0 +1,128 @@
+package com.codepresso.codepresso.order.service;
+
+import com.codepresso.codepresso.order.dto.UsualOrderItem;
+import com.codepresso.codepresso.order.event.OrderCreatedEvent;
+import com.codepresso.codepresso.order.repository.UsualOrderRepository;
+import com.codepresso.codepresso.product.service.CatalogNameDictionary;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * "자주 주문한 메뉴" (회원별 상품 + 옵션 조합 빈도)
+ * - 캐시에 없는 회원은 주문 이력을 한 번 스트리밍하여 프로필 생성 (집계 쿼리 없음)
+ * - 이후 주문 생성 이벤트(커밋 후)로 캐시에 있는 프로필만 갱신
+ * - 프로필은 UsualOrderProfile 의 long[] 인코딩으로 보관, 회원 수 기준 크기 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UsualOrderService {
+
+    private static final int TOP_LIMIT = 3;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UsualOrderRepository usualOrderRepository;
+    private final CatalogNameDictionary catalogNameDictionary;
+
+    private final Cache<Long, long[]> profiles = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterAccess(Duration.ofDays(7))
+            .build();
+
+    /**
+     * 자주 주문한 메뉴 상위 3개
+     */
+    public List<UsualOrderItem> getUsualOrders(Long memberId) {
+        long[] profile = profiles.get(memberId, this::load);
+
+        List<UsualOrderItem> result = new ArrayList<>(TOP_LIMIT);
+        for (UsualOrderProfile.Entry entry : UsualOrderProfile.top(profile, TOP_LIMIT)) {
+            List<String> optionNames = new ArrayList<>(entry.optionIds().length);
+            for (long optionId : entry.optionIds()) {
+                optionNames.add(catalogNameDictionary.getOptionName(optionId));
+            }
+            result.add(UsualOrderItem.builder()
+                    .productId(entry.productId())
+                    .productName(catalogNameDictionary.getProductName(entry.productId()))
+                    .optionNames(optionNames)
+                    .orderCount(entry.count())
+                    .lastOrderedAt(EPOCH.plusMinutes(entry.lastMinute()))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 주문 생성 이벤트 (커밋 후)
+     * 캐시에 없는 회원은 다음 조회 때 이력에서 새로 만들므로 건너뜀
+     */
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        int minute = toMinute(event.orderDate());
+        profiles.asMap().computeIfPresent(event.memberId(), (memberId, profile) -> {
+            long[] updated = profile;
+            for (OrderCreatedEvent.Line line : event.lines()) {
+                updated = UsualOrderProfile.add(updated, line.productId(), line.optionIds(), minute);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * 주문 이력 스트리밍으로 프로필 생성
+     * 행은 order_detail_id 순이며 옵션 수만큼 반복되므로 같은 상세 ID끼리 묶어 한 줄로 처리
+     */
+    private long[] load(Long memberId) {
+        Map<String, UsualOrderProfile.Entry> entries = new LinkedHashMap<>();
+        long[] current = {-1L, 0L, 0L};        // detailId, productId, minute
+        List<Long> options = new ArrayList<>();
+
+        usualOrderRepository.streamMemberOrderLines(memberId, rs -> {
+            long detailId = rs.getLong(1);
+            if (detailId != current[0]) {
+                accumulate(entries, current, options);
+                current[0] = detailId;
+                current[1] = rs.getLong(2);
+                current[2] = toMinute(rs.getTimestamp(3).toLocalDateTime());
+                options.clear();
+            }
+            long optionId = rs.getLong(4);
+            if (!rs.wasNull()) {
+                options.add(optionId);
+            }
+        });
+        accumulate(entries, current, options);
+
+        log.debug("[UsualOrder] profile loaded: memberId={}, signatures={}", memberId, entries.size());
+        return entries.isEmpty() ? UsualOrderProfile.EMPTY : UsualOrderProfile.build(new ArrayList<>(entries.values()));
+    }
+
+    private static void accumulate(Map<String, UsualOrderProfile.Entry> entries, long[] line, List<Long> options) {
+        if (line[0] < 0) {
+            return;
+        }
+        long[] optionIds = options.stream().mapToLong(Long::longValue).sorted().toArray();
+        String key = line[1] + ":" + Arrays.toString(optionIds);
+        int minute = (int) line[2];
+        entries.merge(key, new UsualOrderProfile.Entry(line[1], optionIds, 1, minute),
+                (a, b) -> new UsualOrderProfile.Entry(a.productId(), a.optionIds(),
+                        a.count() + 1, Math.max(a.lastMinute(), minute)));
+    }
+
+    private static int toMinute(LocalDateTime dateTime) {
+        return (int) ChronoUnit.MINUTES.between(EPOCH, dateTime);
+    }
+}
@@ -101,6 +101,8 @@ public class PaymentViewController {
     public String tossCheckoutPage(
             @AuthenticationPrincipal LoginUser loginUser,
             @RequestParam Integer amount,
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(defaultValue = "false") boolean useCoupon,
             @RequestParam(required = false) Long productId,
             @RequestParam(required = false) Integer quantity,
             @RequestParam(required = false) List<Long> optionIds,
@@ -116,12 +118,11 @@ public class PaymentViewController {
             model.addAttribute("memberEmail", loginUser.getEmail());
 
 
-            // 금액 정보 전달
-            model.addAttribute("totalAmount", amount);
+            CheckoutResponse checkoutData;
 
             // 직접결제인 경우 (productId가 있으면)
             if (productId != null && quantity != null) {
-                CheckoutResponse checkoutData = paymentService.prepareDirectCheckout(productId, quantity, optionIds);
+                checkoutData = paymentService.prepareDirectCheckout(productId, quantity, optionIds);
                 model.addAttribute("directItems", checkoutData.toDirectItemsMap());
                 model.addAttribute("directItemsCount", checkoutData.getOrderItems().size());
                 model.addAttribute("totalQuantity", checkoutData.getTotalQuantity());
@@ -129,12 +130,19 @@ public class PaymentViewController {
             }
             // 장바구니 결제인 경우
             else {
-                CheckoutResponse checkoutData = paymentService.prepareCartCheckout(loginUser.getMemberId());
+                checkoutData = paymentService.prepareCartCheckout(loginUser.getMemberId());
                 model.addAttribute("orderItems", checkoutData.getOrderItems());
                 model.addAttribute("totalQuantity", checkoutData.getTotalQuantity());
                 model.addAttribute("isFromCart", true);
             }
 
+            // 결제 견적 발급 - 결제 금액은 클라이언트 값(amount)이 아닌 서버 계산 금액 사용
+            paymentService.attachQuote(checkoutData, loginUser.getMemberId(), branchId, useCoupon);
+            model.addAttribute("quoteToken", checkoutData.getQuoteToken());
+            model.addAttribute("tossOrderId", checkoutData.getTossOrderId());
+            model.addAttribute("discountAmount", checkoutData.getDiscountAmount());
+            model.addAttribute("totalAmount", checkoutData.getTotalAmount() - checkoutData.getDiscountAmount());
+
             return "payment/toss-checkout";
         } catch (Exception e) {
             model.addAttribute("errorMessage", "결제 페이지를 불러올 수 없습니다: " + e.getMessage());
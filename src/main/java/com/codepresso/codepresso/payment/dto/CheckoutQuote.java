@@ -0,0 +1,66 @@
+package com.codepresso.codepresso.payment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 서명된 결제 견적
+ * 결제 페이지에서 서버가 계산한 가격을 그대로 담아 결제 성공 시 재계산 없이 주문을 생성
+ */
+@Getter
+@Builder
+public class CheckoutQuote {
+
+    private Long memberId;
+    private Long branchId;
+    private Integer discountAmount;     // 쿠폰 할인 금액
+    private Long couponId;              // 할인에 사용할 회원 쿠폰 ID (없으면 null)
+    private String orderKey;            // 토스 orderId (견적 1회 사용 보장)
+    private Boolean isFromCart;
+    private long expiresAt;             // 만료 시각 (epoch seconds)
+
+    private List<Line> lines;
+
+    @Getter
+    @Builder
+    public static class Line {
+        private Long productId;
+        private Integer quantity;
+        private Integer unitPrice;      // 옵션 추가금 포함 단가
+        private List<Long> optionIds;
+    }
+
+    /**
+     * 할인 전 총액
+     */
+    public int getTotalAmount() {
+        int total = 0;
+        for (Line line : lines) {
+            total += line.getUnitPrice() * line.getQuantity();
+        }
+        return total;
+    }
+
+    /**
+     * 최종 결제 금액
+     */
+    public int getFinalAmount() {
+        return getTotalAmount() - (discountAmount != null ? discountAmount : 0);
+    }
+
+    /**
+     * 주문 상세 생성용 아이템 리스트로 변환
+     */
+    public List<CheckoutRequest.OrderItem> toOrderItems() {
+        return lines.stream()
+                .map(line -> CheckoutRequest.OrderItem.builder()
+                        .productId(line.getProductId())
+                        .quantity(line.getQuantity())
+                        .price(line.getUnitPrice())
+                        .optionIds(line.getOptionIds())
+                        .build())
+                .toList();
+    }
+}
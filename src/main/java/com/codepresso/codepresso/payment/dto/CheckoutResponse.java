@@ -22,6 +22,7 @@ public class CheckoutResponse {
     private String productionStatus;
     private LocalDateTime orderDate;
     private LocalDateTime pickupTime;
+    private Boolean pickupTimeAdjusted;   // 요청한 픽업 시각이 제조 시간/시간대 용량 때문에 바뀌었는지
     private Boolean isTakeout;
     private String requestNote;
 
@@ -30,6 +31,11 @@ public class CheckoutResponse {
     private Integer totalQuantity;        // 총 수량
     private Boolean isFromCart;           // 장바구니/직접구매 구분
 
+    // 결제 견적 (토스 결제 페이지에서만 사용)
+    private Integer discountAmount;       // 쿠폰 할인 금액
+    private String quoteToken;            // 서명된 결제 견적 토큰
+    private String tossOrderId;           // 견적에 묶인 토스 orderId
+
     private List<CheckoutResponse.OrderItem> orderItems;
 
     @Data
@@ -29,8 +29,10 @@ public class TossPaymentSuccessRequest {
     @Positive(message = "결제 금액은 0보다 커야 합니다")
     private Integer amount;
     
-    @NotNull(message = "주문 아이템은 필수입니다")
-    private List<OrderItem> orderItems;
+    @NotBlank(message = "결제 견적 정보는 필수입니다")
+    private String quoteToken;      // 결제 페이지에서 발급된 서명 견적 (가격/옵션의 기준)
+
+    private List<OrderItem> orderItems;     // 화면 표시용, 주문 생성은 quoteToken 기준
     
     private Boolean isTakeout = true;
     private String pickupTime;
@@ -0,0 +1,187 @@
+package com.codepresso.codepresso.payment.service;
+
+import com.codepresso.codepresso.common.config.CheckoutQuoteConfig;
+import com.codepresso.codepresso.payment.dto.CheckoutQuote;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제 견적 토큰 발급/검증
+ * 토큰 형식 : base64url(payload) + "." + base64url(HMAC-SHA256(payload))
+ * payload  : memberId|branchId|discount|couponId|orderKey|expiresAt|fromCart|productId:quantity:unitPrice:optionId,optionId;...
+ * 서명 키는 기본값 없이 설정에서만 받음 (없거나 MIN_SECRET_BYTES 미만이면 기동 실패)
+ */
+@Component
+public class CheckoutQuoteSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final CheckoutQuoteConfig config;
+    private final SecretKeySpec key;
+
+    // Mac은 thread-safe 하지 않으므로 스레드별로 보관
+    private final ThreadLocal<Mac> macHolder;
+
+    public CheckoutQuoteSigner(CheckoutQuoteConfig config) {
+        if (config.getSecret() == null || config.getSecret().isBlank()) {
+            throw new IllegalStateException("app.payment.quote.secret 설정이 필요합니다.");
+        }
+        if (config.getSecret().getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.payment.quote.secret 는 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        this.config = config;
+        this.key = new SecretKeySpec(config.getSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macHolder = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 견적 만료 시각 계산 (epoch seconds)
+     */
+    public long nextExpiry() {
+        return Instant.now().plusSeconds(config.getTtlMinutes() * 60).getEpochSecond();
+    }
+
+    /**
+     * 견적마다 새 토스 orderId 발급 (영문/숫자/_, 6~64자)
+     */
+    public String nextOrderKey() {
+        return "order_" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /**
+     * 견적 서명 후 토큰 발급
+     */
+    public String sign(CheckoutQuote quote) {
+        byte[] payload = encode(quote).getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    /**
+     * 토큰 서명/만료 검증 후 견적 복원 (DB 조회 없음)
+     */
+    public CheckoutQuote verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("결제 견적 정보가 없습니다.");
+        }
+
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            throw new IllegalArgumentException("잘못된 결제 견적입니다.");
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 결제 견적입니다.");
+        }
+
+        // 상수 시간 비교
+        if (!MessageDigest.isEqual(mac(payload), signature)) {
+            throw new IllegalArgumentException("결제 견적 서명이 올바르지 않습니다.");
+        }
+
+        CheckoutQuote quote = decode(new String(payload, StandardCharsets.UTF_8));
+        if (quote.getExpiresAt() < Instant.now().getEpochSecond()) {
+            throw new IllegalArgumentException("결제 견적이 만료되었습니다. 다시 시도해주세요.");
+        }
+        return quote;
+    }
+
+    private String encode(CheckoutQuote quote) {
+        StringBuilder sb = new StringBuilder(64 + quote.getLines().size() * 32);
+        sb.append(quote.getMemberId()).append('|')
+                .append(quote.getBranchId()).append('|')
+                .append(quote.getDiscountAmount() != null ? quote.getDiscountAmount() : 0).append('|')
+                .append(quote.getCouponId() != null ? quote.getCouponId() : "").append('|')
+                .append(quote.getOrderKey()).append('|')
+                .append(quote.getExpiresAt()).append('|')
+                .append(Boolean.TRUE.equals(quote.getIsFromCart()) ? '1' : '0').append('|');
+
+        List<CheckoutQuote.Line> lines = quote.getLines();
+        for (int i = 0; i < lines.size(); i++) {
+            CheckoutQuote.Line line = lines.get(i);
+            if (i > 0) sb.append(';');
+            sb.append(line.getProductId()).append(':')
+                    .append(line.getQuantity()).append(':')
+                    .append(line.getUnitPrice()).append(':');
+
+            List<Long> optionIds = line.getOptionIds();
+            if (optionIds != null) {
+                for (int j = 0; j < optionIds.size(); j++) {
+                    if (j > 0) sb.append(',');
+                    sb.append(optionIds.get(j));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private CheckoutQuote decode(String payload) {
+        try {
+            String[] fields = payload.split("\\|", -1);
+            if (fields.length != 8 || fields[4].isEmpty()) {
+                throw new IllegalArgumentException("잘못된 결제 견적입니다.");
+            }
+
+            List<CheckoutQuote.Line> lines = new ArrayList<>();
+            for (String rawLine : fields[7].split(";")) {
+                String[] parts = rawLine.split(":", -1);
+                List<Long> optionIds = new ArrayList<>();
+                if (!parts[3].isEmpty()) {
+                    for (String optionId : parts[3].split(",")) {
+                        optionIds.add(Long.parseLong(optionId));
+                    }
+                }
+                lines.add(CheckoutQuote.Line.builder()
+                        .productId(Long.parseLong(parts[0]))
+                        .quantity(Integer.parseInt(parts[1]))
+                        .unitPrice(Integer.parseInt(parts[2]))
+                        .optionIds(optionIds)
+                        .build());
+            }
+
+            return CheckoutQuote.builder()
+                    .memberId(Long.parseLong(fields[0]))
+                    .branchId(Long.parseLong(fields[1]))
+                    .discountAmount(Integer.parseInt(fields[2]))
+                    .couponId(fields[3].isEmpty() ? null : Long.parseLong(fields[3]))
+                    .orderKey(fields[4])
+                    .expiresAt(Long.parseLong(fields[5]))
+                    .isFromCart("1".equals(fields[6]))
+                    .lines(lines)
+                    .build();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 결제 견적입니다.");
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        return macHolder.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("결제 견적 서명 초기화 실패", e);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 주문 생성 로직을 담당하는 서비스 클래스
@@ -29,6 +30,26 @@ public class OrderCreationServiceImproveCreateOrder {
      * 주문 상세 생성
      */
     public List<OrdersDetail> createOrderDetails(List<CheckoutRequest.OrderItem> orderItems, Orders orders) {
+        return buildOrderDetails(orderItems, orders,
+                productId -> productRepository.findById(productId)
+                        .orElseThrow(() -> new RuntimeException("Product not found")),
+                optionId -> productOptionRepository.findById(optionId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 옵션입니다: " + optionId)));
+    }
+
+    /**
+     * 서명된 견적으로 주문 상세 생성
+     * 가격/옵션은 견적 발급 시 검증되었으므로 상품/옵션을 조회하지 않고 참조(프록시)만 연결
+     */
+    public List<OrdersDetail> createOrderDetailsFromQuote(List<CheckoutRequest.OrderItem> orderItems, Orders orders) {
+        return buildOrderDetails(orderItems, orders,
+                productRepository::getReferenceById,
+                productOptionRepository::getReferenceById);
+    }
+
+    private List<OrdersDetail> buildOrderDetails(List<CheckoutRequest.OrderItem> orderItems, Orders orders,
+                                                 Function<Long, Product> productResolver,
+                                                 Function<Long, ProductOption> optionResolver) {
         List<OrdersDetail> orderDetails = new ArrayList<>();
 
         // 할인 전 총액 계산
@@ -47,8 +68,7 @@ public class OrderCreationServiceImproveCreateOrder {
         for (int i = 0; i < orderItems.size(); i++) {
             CheckoutRequest.OrderItem item = orderItems.get(i);
 
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new RuntimeException("Product not found"));
+            Product product = productResolver.apply(item.getProductId());
 
             int itemOriginalPrice = item.getPrice() * item.getQuantity();
 
@@ -73,7 +93,7 @@ public class OrderCreationServiceImproveCreateOrder {
                     .build();
 
             if (item.getOptionIds() != null && !item.getOptionIds().isEmpty()) {
-                List<OrdersItemOptions> options = createOrderItemOptions(item.getOptionIds(), ordersDetail);
+                List<OrdersItemOptions> options = createOrderItemOptions(item.getOptionIds(), ordersDetail, optionResolver);
                 ordersDetail.setOptions(options);
             }
 
@@ -86,12 +106,12 @@ public class OrderCreationServiceImproveCreateOrder {
     /**
      * 주문 아이템 옵션 생성
      */
-    public List<OrdersItemOptions> createOrderItemOptions(List<Long> optionIds, OrdersDetail orderDetail) {
+    private List<OrdersItemOptions> createOrderItemOptions(List<Long> optionIds, OrdersDetail orderDetail,
+                                                           Function<Long, ProductOption> optionResolver) {
         List<OrdersItemOptions> orderItemOptions = new ArrayList<>();
 
         for (Long optionId : optionIds) {
-            ProductOption productOption = productOptionRepository.findById(optionId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 옵션입니다: " + optionId));
+            ProductOption productOption = optionResolver.apply(optionId);
 
             OrdersItemOptions orderItemOption = OrdersItemOptions.builder()
                     .option(productOption)
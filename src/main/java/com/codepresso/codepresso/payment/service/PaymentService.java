@@ -3,6 +3,8 @@ package com.codepresso.codepresso.payment.service;
 import com.codepresso.codepresso.cart.dto.CartItemResponse;
 import com.codepresso.codepresso.cart.dto.CartOptionResponse;
 import com.codepresso.codepresso.cart.dto.CartResponse;
+import com.codepresso.codepresso.coupon.dto.CouponResponse;
+import com.codepresso.codepresso.payment.dto.CheckoutQuote;
 import com.codepresso.codepresso.payment.dto.CheckoutRequest;
 import com.codepresso.codepresso.payment.dto.CheckoutResponse;
 import com.codepresso.codepresso.payment.dto.TossPaymentSuccessRequest;
@@ -13,18 +15,29 @@ import com.codepresso.codepresso.member.entity.Member;
 import com.codepresso.codepresso.order.entity.Orders;
 import com.codepresso.codepresso.order.entity.OrdersDetail;
 import com.codepresso.codepresso.order.entity.OrdersItemOptions;
+import com.codepresso.codepresso.order.entity.OrdersSummary;
+import com.codepresso.codepresso.order.entity.ProductionStatus;
 import com.codepresso.codepresso.branch.repository.BranchRepository;
+import com.codepresso.codepresso.branch.service.BranchAvailabilityService;
 import com.codepresso.codepresso.member.repository.MemberRepository;
+import com.codepresso.codepresso.order.event.OrderCreatedEvent;
+import com.codepresso.codepresso.order.repository.MemberOrderCountRepository;
 import com.codepresso.codepresso.order.repository.OrdersRepository;
+import com.codepresso.codepresso.order.service.OrdersSummaryWriter;
+import com.codepresso.codepresso.order.service.PickupSlotScheduler;
+import com.codepresso.codepresso.order.service.PrepTimeEstimator;
 import com.codepresso.codepresso.cart.service.CartService;
 import com.codepresso.codepresso.coupon.service.CouponService;
 import com.codepresso.codepresso.coupon.service.StampService;
+import com.codepresso.codepresso.product.service.CatalogNameDictionary;
 import com.codepresso.codepresso.product.service.ProductService;
-import io.micrometer.core.instrument.MeterRegistry;
+import com.codepresso.codepresso.monitoring.PaymentPhase;
+import com.codepresso.codepresso.monitoring.PaymentPhaseTracer;
+import com.codepresso.codepresso.monitoring.PhaseTracer;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import io.micrometer.core.instrument.Timer;
 
 
 import java.time.LocalDateTime;
@@ -41,13 +54,21 @@ public class PaymentService {
 
     private final MemberRepository memberRepository;
     private final OrdersRepository ordersRepository;
+    private final MemberOrderCountRepository memberOrderCountRepository;
+    private final OrdersSummaryWriter ordersSummaryWriter;
+    private final PickupSlotScheduler pickupSlotScheduler;
+    private final PrepTimeEstimator prepTimeEstimator;
+    private final ApplicationEventPublisher eventPublisher;
     private final BranchRepository branchRepository;
+    private final BranchAvailabilityService branchAvailabilityService;
     private final CartService cartService;
     private final ProductService productService;
     private final CouponService couponService;
     private final StampService stampService;
     private final OrderCreationServiceImproveCreateOrder orderCreationService;
-    private final MeterRegistry meterRegistry;
+    private final CheckoutQuoteSigner checkoutQuoteSigner;
+    private final CatalogNameDictionary catalogNameDictionary;
+    private final PaymentPhaseTracer paymentPhaseTracer;
 
 
     /**
@@ -87,6 +108,58 @@ public class PaymentService {
         return buildCheckoutResponse(totalAmount, quantity, false, Collections.singletonList(orderItem));
     }
 
+    /**
+     * 결제 견적 발급
+     * 결제 페이지에서 계산한 단가/할인/사용 쿠폰을 서명해 두고, 결제 성공 시 재계산 없이 그대로 주문 생성
+     * 견적마다 토스 orderId 를 새로 발급해 함께 서명 (같은 견적으로 주문은 한 번만 생성)
+     */
+    public void attachQuote(CheckoutResponse checkoutData, Long memberId, Long branchId, boolean useCoupon) {
+        if (branchId == null) {
+            throw new IllegalArgumentException("매장을 선택해주세요.");
+        }
+        branchAvailabilityService.assertAvailable(branchId, checkoutData.getOrderItems().stream()
+                .map(CheckoutResponse.OrderItem::getProductId)
+                .toList());
+
+        int discountAmount = 0;
+        Long couponId = null;
+        if (useCoupon) {
+            List<CouponResponse> validCoupons = couponService.getMemberValidCoupons(memberId);
+            if (!validCoupons.isEmpty()) {
+                Integer couponDiscount = validCoupons.get(0).getDiscountAmount();
+                discountAmount = Math.min(couponDiscount != null ? couponDiscount : 0, checkoutData.getTotalAmount());
+                if (discountAmount > 0) {
+                    couponId = validCoupons.get(0).getCouponId();
+                }
+            }
+        }
+        String orderKey = checkoutQuoteSigner.nextOrderKey();
+
+        List<CheckoutQuote.Line> lines = checkoutData.getOrderItems().stream()
+                .map(item -> CheckoutQuote.Line.builder()
+                        .productId(item.getProductId())
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .optionIds(item.getOptionIds())
+                        .build())
+                .collect(Collectors.toList());
+
+        CheckoutQuote quote = CheckoutQuote.builder()
+                .memberId(memberId)
+                .branchId(branchId)
+                .discountAmount(discountAmount)
+                .couponId(couponId)
+                .orderKey(orderKey)
+                .isFromCart(checkoutData.getIsFromCart())
+                .expiresAt(checkoutQuoteSigner.nextExpiry())
+                .lines(lines)
+                .build();
+
+        checkoutData.setDiscountAmount(discountAmount);
+        checkoutData.setQuoteToken(checkoutQuoteSigner.sign(quote));
+        checkoutData.setTossOrderId(orderKey);
+    }
+
     // ========== Private Helper Methods ==========
 
     /**
@@ -230,31 +303,39 @@ public class PaymentService {
     @Transactional
     public CheckoutResponse processTossPaymentSuccess(TossPaymentSuccessRequest request) {
 
-        Timer.Sample sample = Timer.start(meterRegistry);
+        PhaseTracer<PaymentPhase>.Span span = paymentPhaseTracer.start();
+
+        // 0. 결제 견적 검증 (서명/만료/회원/금액)
+        CheckoutQuote quote = verifyQuote(request);
+        span.mark(PaymentPhase.QUOTE_VERIFY);
 
         // 1. 회원 및 지점 정보 조회
-        Member member = memberRepository.findById(request.getMemberId())
+        Member member = memberRepository.findById(quote.getMemberId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
-        Branch branch = branchRepository.findById(request.getBranchId())
+        Branch branch = branchRepository.findById(quote.getBranchId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지점입니다."));
+        span.mark(PaymentPhase.MEMBER_BRANCH_LOAD);
 
         // 2. 주문 생성
-        Orders orders = createTossOrder(request, member, branch);
+        Orders orders = createTossOrder(request, quote, member, branch);
 
-        // 3. 주문 상세 생성
-        List<CheckoutRequest.OrderItem> checkoutItems = request.getOrderItems().stream()
-                .map(this::convertToCheckoutOrderItem)
-                .collect(Collectors.toList());
+        // 3. 주문 상세 생성 (견적 기준, 상품/옵션 재조회 없음)
+        List<CheckoutRequest.OrderItem> checkoutItems = quote.toOrderItems();
 
         // 4. 주문 저장
-        List<OrdersDetail> ordersDetails = orderCreationService.createOrderDetails(checkoutItems, orders);
+        List<OrdersDetail> ordersDetails = orderCreationService.createOrderDetailsFromQuote(checkoutItems, orders);
         orders.setOrdersDetails(ordersDetails);
+        span.mark(PaymentPhase.DETAIL_CREATION);
 
         Orders savedOrder = ordersRepository.save(orders);
+        memberOrderCountRepository.increment(member.getId());
+        OrdersSummary summary = ordersSummaryWriter.write(savedOrder);
+        eventPublisher.publishEvent(OrderCreatedEvent.of(savedOrder, summary));
+        span.mark(PaymentPhase.ORDER_INSERT);
 
         // 5. 장바구니 비우기 로직 추가
-        if (Boolean.TRUE.equals(request.getIsFromCart())) {
+        if (Boolean.TRUE.equals(quote.getIsFromCart())) {
             try {
                 CartResponse cartData = cartService.getCartByMemberId(member.getId());
                 cartService.clearCart(member.getId(), cartData.getCartId());
@@ -264,65 +345,100 @@ public class PaymentService {
                 e.printStackTrace();
             }
         }
+        span.mark(PaymentPhase.CART_CLEAR);
 
-        // 6. 쿠폰 사용 처리
-        if (Boolean.TRUE.equals(request.getUseCoupon()) && request.getDiscountAmount() != null && request.getDiscountAmount() > 0) {
-            try {
-                // 회원의 사용 가능한 쿠폰 중 첫 번째 쿠폰 사용
-                var validCoupons = couponService.getMemberValidCoupons(member.getId());
-                if (!validCoupons.isEmpty()) {
-                    Long couponId = validCoupons.get(0).getCouponId();
-                    couponService.useCoupon(couponId);
-                }
-            } catch (Exception e) {
-                System.err.println("쿠폰 사용 처리 실패: " + e.getMessage());
-                e.printStackTrace();
-            }
+        // 6. 쿠폰 사용 처리 - 견적에 서명된 쿠폰만 사용, 이미 사용/만료되었으면 결제 전체 롤백
+        if (quote.getCouponId() != null) {
+            couponService.redeemCoupon(member.getId(), quote.getCouponId());
         }
+        span.mark(PaymentPhase.COUPON_USE);
 
         // stamp 적립
         try {
-            stampService.earnStampsFromOrder(member.getId(), ordersDetails);
+            stampService.earnStampsFromOrder(member.getId(), savedOrder.getId(), ordersDetails);
         } catch (Exception e) {
             e.printStackTrace();
         }
+        span.mark(PaymentPhase.STAMP_EARN);
 
         CheckoutResponse response = buildCheckoutResponse(savedOrder);
+        LocalDateTime requestedPickupTime = requestedPickupTime(request);
+        response.setPickupTimeAdjusted(requestedPickupTime != null && !requestedPickupTime.equals(savedOrder.getPickupTime()));
+        span.mark(PaymentPhase.RESPONSE_BUILD);
 
-        sample.stop(Timer.builder("payment.sync.process.duration")
-                .description("동기 결제 처리 응답 시간")
-                .publishPercentiles(0.5, 0.95, 0.99)
-                .tag("type", "toss")
-                .register(meterRegistry));
+        span.finish();
 
         return response;
 
     }
 
-    private Orders createTossOrder(TossPaymentSuccessRequest request, Member member, Branch branch) {
-        // String을 LocalDateTime으로 변환
-        LocalDateTime pickupTime = null;
-        if (request.getPickupTime() != null && !request.getPickupTime().isEmpty()) {
-            try {
-                pickupTime = LocalDateTime.parse(request.getPickupTime());
-            } catch (Exception e) {
-                // 파싱 실패 시 현재 시간 + 5분으로 설정
-                pickupTime = LocalDateTime.now().plusMinutes(5);
-            }
-        } else {
-            // pickupTime이 없으면 현재 시간 + 5분으로 설정
+    /**
+     * 결제 견적 검증
+     * 클라이언트가 보낸 가격이 아닌 서명된 견적을 기준으로 결제 금액을 확인
+     */
+    private CheckoutQuote verifyQuote(TossPaymentSuccessRequest request) {
+        CheckoutQuote quote = checkoutQuoteSigner.verify(request.getQuoteToken());
+
+        if (!quote.getMemberId().equals(request.getMemberId())) {
+            throw new IllegalArgumentException("결제 견적의 회원 정보가 일치하지 않습니다.");
+        }
+        if (request.getAmount() == null || quote.getFinalAmount() != request.getAmount()) {
+            throw new IllegalArgumentException("결제 금액이 견적과 일치하지 않습니다.");
+        }
+        // 할인은 서명된 쿠폰이 있을 때만 인정
+        if (quote.getDiscountAmount() != null && quote.getDiscountAmount() > 0 && quote.getCouponId() == null) {
+            throw new IllegalArgumentException("결제 견적의 쿠폰 정보가 올바르지 않습니다.");
+        }
+        // 견적 1회 사용 : 토스 orderId 가 견적과 같아야 하고, 이미 주문이 생성된 orderId 는 거부 (동시 요청은 unique 제약으로 거부)
+        if (!quote.getOrderKey().equals(request.getOrderId())) {
+            throw new IllegalArgumentException("결제 견적의 주문 정보가 일치하지 않습니다.");
+        }
+        if (ordersRepository.existsByTossOrderId(quote.getOrderKey())) {
+            throw new IllegalArgumentException("이미 처리된 결제입니다.");
+        }
+        return quote;
+    }
+
+    /**
+     * 요청한 픽업 시각 (String -> LocalDateTime, 없거나 형식이 잘못되면 null)
+     */
+    private LocalDateTime requestedPickupTime(TossPaymentSuccessRequest request) {
+        if (request.getPickupTime() == null || request.getPickupTime().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(request.getPickupTime());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private Orders createTossOrder(TossPaymentSuccessRequest request, CheckoutQuote quote, Member member, Branch branch) {
+        // 요청 시각이 없거나 파싱 실패 시 현재 시간 + 5분으로 설정
+        LocalDateTime pickupTime = requestedPickupTime(request);
+        if (pickupTime == null) {
             pickupTime = LocalDateTime.now().plusMinutes(5);
         }
 
-        int discountAmount = (request.getUseCoupon() != null && request.getUseCoupon() && request.getDiscountAmount() != null)
-                ? request.getDiscountAmount() : 0;
-        int finalAmount = request.getAmount() != null ? request.getAmount() : 0;
-        int totalAmount = finalAmount + discountAmount;
+        // 지점의 최근 제조 시간(EWMA)보다 이른 픽업 시각은 예상 제조완료 시각으로 조정
+        LocalDateTime estimatedReadyAt = LocalDateTime.now().plusSeconds(
+                prepTimeEstimator.estimateSeconds(branch.getId(), quote.getLines().stream().map(CheckoutQuote.Line::getProductId).toList()));
+        if (pickupTime.isBefore(estimatedReadyAt)) {
+            pickupTime = estimatedReadyAt;
+        }
+
+        // 지점 픽업 시간대 용량 예약 (가득 찼으면 다음 빈 시간대로 조정, 주문 롤백 시 반납)
+        // 픽업 시각은 결제 페이지에서 고르므로 견적 발급 시점이 아닌 결제 성공 시점에 예약, 조정 여부는 응답으로 알림
+        pickupTime = pickupSlotScheduler.reserve(branch.getId(), pickupTime);
+
+        int discountAmount = quote.getDiscountAmount() != null ? quote.getDiscountAmount() : 0;
+        int totalAmount = quote.getTotalAmount();
+        int finalAmount = quote.getFinalAmount();
 
         return Orders.builder()
                 .member(member)
                 .branch(branch)
-                .productionStatus("픽업완료")
+                .productionStatus(ProductionStatus.RECEIVED.getLabel())
                 .isTakeout(request.getIsTakeout())
                 .pickupTime(pickupTime)
                 .orderDate(LocalDateTime.now())
@@ -331,64 +447,48 @@ public class PaymentService {
                 .totalAmount(totalAmount)
                 .discountAmount(discountAmount)
                 .finalAmount(finalAmount)
+                .usedCouponId(quote.getCouponId())
+                .tossOrderId(quote.getOrderKey())
                 .build();
     }
 
     /**
-     * TossPaymentSuccessRequest.OrderItem을 CheckoutRequest.OrderItem으로 변환
+     * 저장된 주문 애그리거트로 응답 생성
+     * 방금 저장한 주문을 다시 조회하지 않고, 상품명/옵션명은 메모리 사전에서 조회
      */
-    private CheckoutRequest.OrderItem convertToCheckoutOrderItem(TossPaymentSuccessRequest.OrderItem tossItem) {
-        return CheckoutRequest.OrderItem.builder()
-                .productId(tossItem.getProductId())
-                .quantity(tossItem.getQuantity())
-                .price(tossItem.getPrice())
-                .optionIds(tossItem.getOptionIds())
-                .build();
-    }
-
-    private CheckoutResponse buildCheckoutResponse(Orders orders) {
-        Orders fetchedOrders = ordersRepository.findByIdWithDetails(orders.getId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
-
-        // 주문 상세 정보 리스트 생성
-        List<CheckoutResponse.OrderItem> orderItems = new ArrayList<>();
+    private CheckoutResponse buildCheckoutResponse(Orders savedOrder) {
+        List<CheckoutResponse.OrderItem> orderItems = new ArrayList<>(savedOrder.getOrdersDetails().size());
+        int totalAmount = 0;
 
-        // 각 주문 상세를 OrderItem으로 변환
-        for (OrdersDetail detail : fetchedOrders.getOrdersDetails()) {
-            // 옵션 이름들 수집
+        for (OrdersDetail detail : savedOrder.getOrdersDetails()) {
+            // 옵션 이름들 수집 (프록시 ID만 사용하므로 추가 쿼리 없음)
             List<String> optionNames = new ArrayList<>();
             if (detail.getOptions() != null) {
                 for (OrdersItemOptions option : detail.getOptions()) {
-                    optionNames.add(option.getOption().getOptionStyle().getOptionName().getOptionName());
+                    optionNames.add(catalogNameDictionary.getOptionName(option.getOption().getId()));
                 }
             }
 
-            // OrderItem 생성
             CheckoutResponse.OrderItem orderItem = CheckoutResponse.OrderItem.builder()
                     .orderDetailId(detail.getId())
-                    .productName(detail.getProduct().getProductName())
+                    .productName(catalogNameDictionary.getProductName(detail.getProduct().getId()))
                     .quantity(detail.getQuantity() != null ? detail.getQuantity() : 1)
                     .price(detail.getPrice())
                     .optionNames(optionNames)
                     .build();
 
             orderItems.add(orderItem);
-        }
-
-        // 총 주문 금액 계산
-        int totalAmount = 0;
-        for (OrdersDetail detail : fetchedOrders.getOrdersDetails()) {
             totalAmount += detail.getPrice();
         }
 
         // 최종 응답 객체 생성
         return CheckoutResponse.builder()
-                .orderId(fetchedOrders.getId())
-                .productionStatus(fetchedOrders.getProductionStatus())
-                .orderDate(fetchedOrders.getOrderDate())
-                .pickupTime(fetchedOrders.getPickupTime())
-                .isTakeout(fetchedOrders.getIsTakeout())
-                .requestNote(fetchedOrders.getRequestNote())
+                .orderId(savedOrder.getId())
+                .productionStatus(savedOrder.getProductionStatus())
+                .orderDate(savedOrder.getOrderDate())
+                .pickupTime(savedOrder.getPickupTime())
+                .isTakeout(savedOrder.getIsTakeout())
+                .requestNote(savedOrder.getRequestNote())
                 .totalAmount(totalAmount)
                 .orderItems(orderItems)
                 .build();
@@ -13,14 +13,22 @@ import com.codepresso.codepresso.member.entity.Member;
 import com.codepresso.codepresso.order.entity.Orders;
 import com.codepresso.codepresso.order.entity.OrdersDetail;
 import com.codepresso.codepresso.order.entity.OrdersItemOptions;
+import com.codepresso.codepresso.order.entity.OrdersSummary;
+import com.codepresso.codepresso.order.entity.ProductionStatus;
 import com.codepresso.codepresso.branch.repository.BranchRepository;
 import com.codepresso.codepresso.member.repository.MemberRepository;
+import com.codepresso.codepresso.order.event.OrderCreatedEvent;
+import com.codepresso.codepresso.order.repository.MemberOrderCountRepository;
 import com.codepresso.codepresso.order.repository.OrdersRepository;
+import com.codepresso.codepresso.order.service.OrdersSummaryWriter;
+import com.codepresso.codepresso.order.service.PickupSlotScheduler;
+import com.codepresso.codepresso.order.service.PrepTimeEstimator;
 import com.codepresso.codepresso.cart.service.CartService;
 import com.codepresso.codepresso.coupon.service.CouponService;
 import com.codepresso.codepresso.coupon.service.StampService;
 import com.codepresso.codepresso.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +48,11 @@ public class PaymentServiceImproveInsertOrder {
 
     private final MemberRepository memberRepository;
     private final OrdersRepository ordersRepository;
+    private final MemberOrderCountRepository memberOrderCountRepository;
+    private final OrdersSummaryWriter ordersSummaryWriter;
+    private final PickupSlotScheduler pickupSlotScheduler;
+    private final PrepTimeEstimator prepTimeEstimator;
+    private final ApplicationEventPublisher eventPublisher;
     private final BranchRepository branchRepository;
     private final CartService cartService;
     private final ProductService productService;
@@ -246,6 +259,9 @@ public class PaymentServiceImproveInsertOrder {
         orders.setOrdersDetails(ordersDetails);
 
         Orders savedOrder = ordersRepository.save(orders);
+        memberOrderCountRepository.increment(member.getId());
+        OrdersSummary summary = ordersSummaryWriter.write(savedOrder);
+        eventPublisher.publishEvent(OrderCreatedEvent.of(savedOrder, summary));
 
         // 5. 장바구니 비우기 로직 추가
         if (Boolean.TRUE.equals(request.getIsFromCart())) {
@@ -276,7 +292,7 @@ public class PaymentServiceImproveInsertOrder {
 
         // stamp 적립
         try {
-            stampService.earnStampsFromOrder(member.getId(), ordersDetails);
+            stampService.earnStampsFromOrder(member.getId(), savedOrder.getId(), ordersDetails);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -300,6 +316,16 @@ public class PaymentServiceImproveInsertOrder {
             pickupTime = LocalDateTime.now().plusMinutes(5);
         }
 
+        // 지점의 최근 제조 시간(EWMA)보다 이른 픽업 시각은 예상 제조완료 시각으로 조정
+        LocalDateTime estimatedReadyAt = LocalDateTime.now().plusSeconds(
+                prepTimeEstimator.estimateSeconds(branch.getId(), request.getOrderItems().stream().map(TossPaymentSuccessRequest.OrderItem::getProductId).toList()));
+        if (pickupTime.isBefore(estimatedReadyAt)) {
+            pickupTime = estimatedReadyAt;
+        }
+
+        // 지점 픽업 시간대 용량 예약 (가득 찼으면 다음 빈 시간대로 조정, 주문 롤백 시 반납)
+        pickupTime = pickupSlotScheduler.reserve(branch.getId(), pickupTime);
+
         int discountAmount = (request.getUseCoupon() != null && request.getUseCoupon() && request.getDiscountAmount() != null)
                 ? request.getDiscountAmount() : 0;
         int finalAmount = request.getAmount() != null ? request.getAmount() : 0;
@@ -308,7 +334,7 @@ public class PaymentServiceImproveInsertOrder {
         return Orders.builder()
                 .member(member)
                 .branch(branch)
-                .productionStatus("픽업완료")
+                .productionStatus(ProductionStatus.RECEIVED.getLabel())
                 .isTakeout(request.getIsTakeout())
                 .pickupTime(pickupTime)
                 .orderDate(LocalDateTime.now())
@@ -3,6 +3,7 @@ package com.codepresso.codepresso.product.controller;
 import com.codepresso.codepresso.product.dto.ProductDetailResponse;
 import com.codepresso.codepresso.product.dto.ProductListResponse;
 import com.codepresso.codepresso.review.dto.ReviewListResponse;
+import com.codepresso.codepresso.product.service.PopularProductService;
 import com.codepresso.codepresso.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final PopularProductService popularProductService;
 
     /**
      * 전체 상품 목록 조회
@@ -45,6 +47,18 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 인기 상품 (최근 24시간 판매 수량, 메모리 집계)
+     * branchId 가 없으면 전체 지점 기준
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<ProductListResponse>> getPopularProducts(
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ProductListResponse> products = popularProductService.getPopularProducts(branchId, limit);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * 상품 리뷰 목록 조회
      */
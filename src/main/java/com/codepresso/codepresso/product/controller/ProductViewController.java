@@ -1,10 +1,14 @@
 package com.codepresso.codepresso.product.controller;
 
+import com.codepresso.codepresso.common.security.LoginUser;
+import com.codepresso.codepresso.member.service.FavoriteMembershipCache;
+import com.codepresso.codepresso.order.service.UsualOrderService;
 import com.codepresso.codepresso.product.dto.ProductDetailResponse;
 import com.codepresso.codepresso.product.dto.ProductListResponse;
 import com.codepresso.codepresso.product.service.ProductService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,25 +23,34 @@ import java.util.List;
 public class ProductViewController {
 
     private final ProductService productService;
+    private final UsualOrderService usualOrderService;
+    private final FavoriteMembershipCache favoriteMembershipCache;
 
     /**
-     * 상품 목록 페이지
+     * 상품 목록 페이지 (로그인 회원은 자주 주문한 메뉴 상위 3개, 즐겨찾기 표시 포함)
      */
     @GetMapping
-    public String productList(Model model) {
+    public String productList(@AuthenticationPrincipal LoginUser loginUser, Model model) {
         List<ProductListResponse> products = productService.findProductsWithCategory();
         model.addAttribute("products", products);
+        if (loginUser != null) {
+            model.addAttribute("usualOrders", usualOrderService.getUsualOrders(loginUser.getMemberId()));
+            model.addAttribute("favoriteProductIds", favoriteMembershipCache.findFavoriteProductIds(
+                    loginUser.getMemberId(), products.stream().map(ProductListResponse::getProductId).toList()));
+        }
         return "product/productList";
     }
 
     /**
-     * 상품 상세 페이지
+     * 상품 상세 페이지 (로그인 회원은 즐겨찾기 여부 포함)
      */
     @GetMapping("/{productId}")
-    public String getProductDetail(@PathVariable Long productId, Model model) {
+    public String getProductDetail(@AuthenticationPrincipal LoginUser loginUser, @PathVariable Long productId, Model model) {
         try {
             ProductDetailResponse product = productService.findByProductId(productId);
             model.addAttribute("product", product);
+            model.addAttribute("favorited", loginUser != null
+                    && favoriteMembershipCache.isFavorite(loginUser.getMemberId(), productId));
         } catch (Exception e) {
             model.addAttribute("errorMessage", "상품 정보를 불러오는 중 오류가 발생했습니다: " + e.getMessage());
         }
@@ -20,4 +20,13 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
     @Query(value = "SELECT COUNT(*) FROM product_option WHERE product_id = :productId",
             nativeQuery = true)
     int countOptionByProductId(@Param("productId") Long productId);
+
+    /**
+     * 옵션 ID -> 옵션명 (메모리 사전 적재용)
+     */
+    @Query("SELECT po.id AS id, n.optionName AS name " +
+            "FROM ProductOption po " +
+            "JOIN po.optionStyle os " +
+            "JOIN os.optionName n")
+    List<ProductRepository.IdName> findAllOptionNames();
 }
\ No newline at end of file
@@ -33,6 +33,23 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             """)
     List<ProductSummary> findAllProducts();
 
+    interface IdName {
+        Long getId();
+        String getName();
+    }
+
+    /**
+     * 상품 ID -> 상품명 (메모리 사전 적재용)
+     */
+    @Query("SELECT p.id AS id, p.productName AS name FROM Product p")
+    List<IdName> findAllProductNames();
+
+    /**
+     * 전체 상품 ID (상품 순번 부여용)
+     */
+    @Query("SELECT p.id FROM Product p ORDER BY p.id")
+    List<Long> findAllIds();
+
     @Query("""
             SELECT new com.codepresso.codepresso.product.dto.ProductListResponse(
                 p.id, p.productName, p.productPhoto, p.price, c.categoryName, c.categoryCode
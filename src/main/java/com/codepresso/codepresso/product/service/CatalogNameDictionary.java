@@ -0,0 +1,115 @@
+package com.codepresso.codepresso.product.service;
+
+import com.codepresso.codepresso.product.repository.ProductOptionRepository;
+import com.codepresso.codepresso.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품명/옵션명 메모리 사전
+ * 주문 응답 생성 시 Product, ProductOption -> OptionStyle -> OptionName 지연 로딩 없이 이름을 조회
+ * - 최초 조회 시 쿼리 2번으로 전체 적재
+ * - 사전에 없는 ID 가 들어오면 다시 적재하되, 마지막 적재 후 1분이 지났을 때만 (삭제된 상품 등으로 매번 전체를 다시 읽지 않도록)
+ * - 다시 적재해도 없는 ID 는 잠시 기억해 두고 같은 ID 로 다시 적재하지 않음
+ * - 상품/옵션을 추가/변경하는 코드는 reload() 를 호출해 즉시 반영 (현재는 DB 에 직접 등록하므로 재시작 또는 1분 후 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogNameDictionary {
+
+    private static final long RELOAD_INTERVAL_MILLIS = 60_000L;
+
+    private final ProductRepository productRepository;
+    private final ProductOptionRepository productOptionRepository;
+
+    private volatile Map<Long, String> productNames;
+    private volatile Map<Long, String> optionNames;
+    private volatile long loadedAt;
+
+    // 다시 적재해도 사전에 없던 ID
+    private final Cache<Long, Boolean> missingProductIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+    private final Cache<Long, Boolean> missingOptionIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public String getProductName(Long productId) {
+        String name = productNames().get(productId);
+        if (name == null && productId != null && missingProductIds.getIfPresent(productId) == null) {
+            reloadIfStale();
+            name = productNames.get(productId);
+            if (name == null) {
+                missingProductIds.put(productId, Boolean.TRUE);
+            }
+        }
+        return name;
+    }
+
+    public String getOptionName(Long optionId) {
+        String name = optionNames().get(optionId);
+        if (name == null && optionId != null && missingOptionIds.getIfPresent(optionId) == null) {
+            reloadIfStale();
+            name = optionNames.get(optionId);
+            if (name == null) {
+                missingOptionIds.put(optionId, Boolean.TRUE);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * 사전 전체 재적재 (상품/옵션 변경 시 호출, 간격 제한 없음)
+     */
+    public synchronized void reload() {
+        productNames = toMap(productRepository.findAllProductNames());
+        optionNames = toMap(productOptionRepository.findAllOptionNames());
+        loadedAt = System.currentTimeMillis();
+        missingProductIds.invalidateAll();
+        missingOptionIds.invalidateAll();
+        log.debug("[CatalogNameDictionary] loaded products={}, options={}", productNames.size(), optionNames.size());
+    }
+
+    /**
+     * 사전에 없는 ID 조회 시 재적재 (마지막 적재 후 RELOAD_INTERVAL_MILLIS 가 지났을 때만)
+     */
+    private synchronized void reloadIfStale() {
+        if (System.currentTimeMillis() - loadedAt > RELOAD_INTERVAL_MILLIS) {
+            reload();
+        }
+    }
+
+    private Map<Long, String> productNames() {
+        if (productNames == null) {
+            reload();
+        }
+        return productNames;
+    }
+
+    private Map<Long, String> optionNames() {
+        if (optionNames == null) {
+            reload();
+        }
+        return optionNames;
+    }
+
+    private Map<Long, String> toMap(List<ProductRepository.IdName> rows) {
+        Map<Long, String> map = new HashMap<>(rows.size() * 2);
+        for (ProductRepository.IdName row : rows) {
+            map.put(row.getId(), row.getName());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
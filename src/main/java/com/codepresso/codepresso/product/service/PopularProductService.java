@@ -0,0 +1,202 @@
+package com.codepresso.codepresso.product.service;
+
+import com.codepresso.codepresso.order.event.OrderCreatedEvent;
+import com.codepresso.codepresso.product.dto.ProductListResponse;
+import com.codepresso.codepresso.product.repository.ProductRepository;
+import com.codepresso.codepresso.sales.entity.SalesRollupHourly;
+import com.codepresso.codepresso.sales.repository.SalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 인기 상품 순위 (최근 24시간 판매 수량 기준)
+ * - 주문 생성 이벤트(커밋 후)로 상품별 시간 버킷 링버퍼(24칸)에 누적, 지점별 + 전체
+ * - 상위 N개는 미리 유지하지 않고 조회 때마다 계산 : 상품별로 유효한 버킷을 합산하며 크기 N의 최소 힙으로 추림
+ *   (상품 수 x 24칸 메모리 순회, DB 조회 없음)
+ * - 상품 검색 페이지의 "지금 많이 팔리는 메뉴" 영역에서 사용
+ * - 서버 시작 시 sales_rollup_hourly 최근 24시간으로 워밍업 (order_detail 집계 쿼리 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularProductService {
+
+    static final int BUCKETS = 24;
+    private static final int MAX_LIMIT = 20;
+    private static final long SUMMARY_RELOAD_INTERVAL_MILLIS = 60_000L;    // 삭제된 상품 때문에 매번 재적재하지 않도록
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final ProductRepository productRepository;
+
+    private final Window global = new Window();
+    private final ConcurrentHashMap<Long, Window> branchWindows = new ConcurrentHashMap<>();
+
+    // 상품 목록 응답용 요약 (최초 조회 시 적재, 없는 ID가 나오면 다시 적재)
+    private volatile Map<Long, ProductListResponse> productSummaries;
+    private volatile long summariesLoadedAt;
+
+    /**
+     * 시간 버킷 링버퍼
+     * bucketHours[i] : i번 칸이 담고 있는 시각(epoch 기준 시간 수), 칸 재사용 시 모든 상품의 i번 값을 0으로 초기화
+     * 칸 교체 직전에 들어온 증가분이 지워질 수 있으나 순위 용도로는 허용
+     */
+    static final class Window {
+        final long[] bucketHours = new long[BUCKETS];
+        final ConcurrentHashMap<Long, AtomicLongArray> counts = new ConcurrentHashMap<>();
+
+        void add(long productId, long hour, long quantity) {
+            int idx = (int) (hour % BUCKETS);
+            if (bucketHours[idx] != hour) {
+                synchronized (this) {
+                    if (bucketHours[idx] > hour) {
+                        return;     // 이미 더 최근 시간대로 교체된 칸 (24시간 지난 주문)
+                    }
+                    if (bucketHours[idx] != hour) {
+                        for (AtomicLongArray c : counts.values()) {
+                            c.set(idx, 0);
+                        }
+                        bucketHours[idx] = hour;
+                    }
+                }
+            }
+            counts.computeIfAbsent(productId, k -> new AtomicLongArray(BUCKETS)).addAndGet(idx, quantity);
+        }
+
+        /**
+         * 최근 24시간 합계 상위 limit 개 (productId, count)
+         * 호출할 때마다 전체 상품의 버킷을 합산하고, 크기 limit 의 최소 힙으로 상위만 남김
+         */
+        List<long[]> top(long currentHour, int limit) {
+            boolean[] valid = new boolean[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                long h = bucketHours[i];
+                valid[i] = h > currentHour - BUCKETS && h <= currentHour;
+            }
+
+            // 최소 힙 : 루트가 현재 상위 N 중 가장 작은 값
+            PriorityQueue<long[]> heap = new PriorityQueue<>(limit + 1,
+                    (a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(b[0], a[0]));
+            for (Map.Entry<Long, AtomicLongArray> entry : counts.entrySet()) {
+                AtomicLongArray c = entry.getValue();
+                long sum = 0;
+                for (int i = 0; i < BUCKETS; i++) {
+                    if (valid[i]) {
+                        sum += c.get(i);
+                    }
+                }
+                if (sum <= 0) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.offer(new long[]{entry.getKey(), sum});
+                } else if (sum > heap.peek()[1]) {
+                    heap.poll();
+                    heap.offer(new long[]{entry.getKey(), sum});
+                }
+            }
+
+            List<long[]> result = new ArrayList<>(heap);
+            result.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[0], b[0]));
+            return result;
+        }
+    }
+
+    /**
+     * 주문 생성 이벤트 (커밋 후)
+     */
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        long hour = toHour(event.orderDate());
+        Window branch = windowOf(event.branchId());
+        for (OrderCreatedEvent.Line line : event.lines()) {
+            global.add(line.productId(), hour, line.quantity());
+            branch.add(line.productId(), hour, line.quantity());
+        }
+    }
+
+    /**
+     * 인기 상품 상위 limit 개 (branchId 가 null 이면 전체 지점)
+     */
+    public List<ProductListResponse> getPopularProducts(Long branchId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        Window window = branchId == null ? global : branchWindows.get(branchId);
+        if (window == null) {
+            return List.of();
+        }
+
+        List<ProductListResponse> result = new ArrayList<>(limit);
+        for (long[] entry : window.top(toHour(LocalDateTime.now()), limit)) {
+            ProductListResponse summary = productSummary(entry[0]);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 서버 시작 시 최근 24시간 집계로 워밍업
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(BUCKETS - 1);
+            int count = 0;
+            for (SalesRollupHourly row : salesRollupRepository.findByBucketHourGreaterThanEqual(from)) {
+                long hour = toHour(row.getBucketHour());
+                global.add(row.getProductId(), hour, row.getQuantity());
+                windowOf(row.getBranchId()).add(row.getProductId(), hour, row.getQuantity());
+                count++;
+            }
+            log.info("[PopularProduct] warmed up with {} rollup cells", count);
+        } catch (Exception e) {
+            log.warn("[PopularProduct] warm up failed", e);
+        }
+    }
+
+    private Window windowOf(Long branchId) {
+        return branchWindows.computeIfAbsent(branchId, k -> new Window());
+    }
+
+    private ProductListResponse productSummary(long productId) {
+        Map<Long, ProductListResponse> summaries = productSummaries;
+        if (summaries == null
+                || (!summaries.containsKey(productId) && System.currentTimeMillis() - summariesLoadedAt > SUMMARY_RELOAD_INTERVAL_MILLIS)) {
+            summaries = reloadSummaries();
+        }
+        return summaries.get(productId);
+    }
+
+    private synchronized Map<Long, ProductListResponse> reloadSummaries() {
+        List<ProductListResponse> rows = productRepository.findAllProductsAsDto();
+        Map<Long, ProductListResponse> map = new HashMap<>(rows.size() * 2);
+        for (ProductListResponse row : rows) {
+            map.put(row.getProductId(), row);
+        }
+        productSummaries = Collections.unmodifiableMap(map);
+        summariesLoadedAt = System.currentTimeMillis();
+        return productSummaries;
+    }
+
+    private static long toHour(LocalDateTime dateTime) {
+        return ChronoUnit.HOURS.between(EPOCH, dateTime);
+    }
+}
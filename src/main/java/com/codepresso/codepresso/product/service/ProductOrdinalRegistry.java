@@ -0,0 +1,104 @@
+package com.codepresso.codepresso.product.service;
+
+import com.codepresso.codepresso.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 ID -> 0부터 시작하는 조밀한 순번
+ * 상품별 비트셋(지점 품절, 회원 즐겨찾기 등)의 인덱스로 사용
+ * - 최초 사용 시 전체 상품을 ID 순으로 적재, 이후 새 상품은 product 테이블에 있을 때만 뒤에 이어 붙임
+ * - product 테이블에 없는 ID 는 -1 (순번을 부여하지 않음, 잠시 기억해 두고 같은 ID 로 다시 조회하지 않음)
+ *   요청 값으로 임의 ID 를 보내도 순번 배열과 비트셋이 늘어나지 않도록
+ * - 실행 중에는 순번을 바꾸지 않음 (이미 만든 비트셋이 그대로 유효하도록), 재시작 시 다시 부여되므로 저장에는 상품 ID를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductOrdinalRegistry {
+
+    public static final int UNKNOWN = -1;
+
+    private final ProductRepository productRepository;
+
+    private final ConcurrentHashMap<Long, Integer> ordinals = new ConcurrentHashMap<>();
+    private volatile long[] productIds;     // 순번 -> 상품 ID
+    private int size;                       // synchronized 안에서만 변경
+
+    // product 테이블에 없는 것으로 확인한 ID
+    private final Cache<Long, Boolean> unknownIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    /**
+     * 상품 순번 (처음 보는 상품이면 존재 확인 후 새 순번 부여, 없는 상품이면 UNKNOWN)
+     */
+    public int ordinalOf(Long productId) {
+        if (productId == null) {
+            return UNKNOWN;
+        }
+        Integer ordinal = ordinals.get(productId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        if (productIds != null && unknownIds.getIfPresent(productId) != null) {
+            return UNKNOWN;
+        }
+        return assign(productId);
+    }
+
+    /**
+     * 순번 -> 상품 ID (없으면 null)
+     */
+    public Long productIdAt(int ordinal) {
+        if (productIds == null) {
+            assign(null);
+        }
+        long[] ids = productIds;
+        return ordinal >= 0 && ordinal < ids.length && ids[ordinal] != 0 ? ids[ordinal] : null;
+    }
+
+    private synchronized int assign(Long productId) {
+        if (productIds == null) {
+            long[] ids = new long[0];
+            for (Long id : productRepository.findAllIds()) {
+                ids = append(ids, id);
+            }
+            productIds = ids;
+            log.debug("[ProductOrdinalRegistry] loaded {} products", size);
+        }
+        if (productId == null) {
+            return UNKNOWN;
+        }
+        Integer ordinal = ordinals.get(productId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        // 새 ID 는 한 건만 존재 확인 (전체 재적재 없음)
+        if (unknownIds.getIfPresent(productId) != null || !productRepository.existsById(productId)) {
+            unknownIds.put(productId, Boolean.TRUE);
+            return UNKNOWN;
+        }
+        productIds = append(productIds, productId);
+        return size - 1;
+    }
+
+    private long[] append(long[] ids, long productId) {
+        long[] target = ids;
+        if (size == target.length) {
+            target = Arrays.copyOf(target, Math.max(16, target.length * 2));
+        }
+        target[size] = productId;
+        ordinals.put(productId, size);
+        size++;
+        return target;
+    }
+}
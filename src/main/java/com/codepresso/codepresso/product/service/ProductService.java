@@ -9,7 +9,7 @@ import com.codepresso.codepresso.review.converter.ReviewConverter;
 import com.codepresso.codepresso.product.dto.ProductDetailResponse;
 import com.codepresso.codepresso.product.dto.ProductListResponse;
 import com.codepresso.codepresso.review.dto.ReviewListResponse;
-import com.codepresso.codepresso.member.repository.FavoriteRepository;
+import com.codepresso.codepresso.member.service.FavoriteCounterBuffer;
 import com.codepresso.codepresso.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +29,7 @@ import java.util.stream.Collectors;
 public class ProductService {
     private final ProductRepository productRepo;
     private final ProductOptionRepository productOptRepo;
-    private final FavoriteRepository favoriteRepo;
+    private final FavoriteCounterBuffer favoriteCounterBuffer;
     private final NutritionInfoRepository nutritionInfoRepo;
     private final ReviewRepository reviewRepo;
     private final ReviewConverter reviewConverter;
@@ -75,8 +75,11 @@ public class ProductService {
 
     @Transactional
     public ProductDetailResponse findByProductId(Long productId) {
-        Product product = productRepo.findProductById(productId);
-        long favCount = favoriteRepo.countByProductId(productId);
+        // COUNT(*) 대신 비정규화된 favorite_count + 아직 반영 전인 버퍼 증감
+        FavoriteCounterBuffer.Counted<Product> counted =
+                favoriteCounterBuffer.read(productId, () -> productRepo.findProductById(productId), Product::getFavoriteCount);
+        Product product = counted.value();
+        long favCount = counted.favoriteCount();
         List<ProductOption> options = productOptRepo.findOptionByProductId(productId);
         NutritionInfo nutritionInfo = nutritionInfoRepo.findNutritionInfoByProductId(productId);
 
@@ -85,8 +88,11 @@ public class ProductService {
 
     @Transactional(readOnly = true)
     public ProductDetailResponse findByProductIdReadOnly(Long productId) {
-        Product product = productRepo.findProductById(productId);
-        long favCount = favoriteRepo.countByProductId(productId);
+        // COUNT(*) 대신 비정규화된 favorite_count + 아직 반영 전인 버퍼 증감
+        FavoriteCounterBuffer.Counted<Product> counted =
+                favoriteCounterBuffer.read(productId, () -> productRepo.findProductById(productId), Product::getFavoriteCount);
+        Product product = counted.value();
+        long favCount = counted.favoriteCount();
         List<ProductOption> options = productOptRepo.findOptionByProductId(productId);
         NutritionInfo nutritionInfo = nutritionInfoRepo.findNutritionInfoByProductId(productId);
 
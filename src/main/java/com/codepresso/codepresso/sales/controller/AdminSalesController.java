@@ -0,0 +1,47 @@
+package com.codepresso.codepresso.sales.controller;
+
+import com.codepresso.codepresso.sales.dto.DailySalesResponse;
+import com.codepresso.codepresso.sales.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 매출 리포트 컨트롤러 (집계 테이블만 조회)
+ * */
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/sales")
+@RestController
+public class AdminSalesController {
+
+    private final SalesRollupService salesRollupService;
+
+    /**
+     * 일별 지점/상품 매출
+     * GET /api/admin/sales/daily?from=2025-01-01&to=2025-01-31&branchId=1
+     * */
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailySalesResponse>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long branchId) {
+        return ResponseEntity.ok(salesRollupService.getDailySales(from, to, branchId));
+    }
+
+    /**
+     * 과거 주문으로 집계 재계산 [from, to)
+     * POST /api/admin/sales/backfill?from=2025-01-01&to=2025-02-01
+     * */
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, Object>> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int cells = salesRollupService.backfill(from, to);
+        return ResponseEntity.ok(Map.of("cells", cells));
+    }
+}
@@ -0,0 +1,20 @@
+package com.codepresso.codepresso.sales.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 지점/상품 매출 응답
+ */
+@Getter
+@Builder
+public class DailySalesResponse {
+    private LocalDate day;
+    private Long branchId;
+    private Long productId;
+    private String productName;
+    private Long quantity;
+    private Long revenue;
+}
@@ -0,0 +1,39 @@
+package com.codepresso.codepresso.sales.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 x 지점 x 상품 매출 집계
+ * 주문 확정 시 메모리에서 누적 후 주기적으로 upsert (원본 주문 테이블을 읽지 않는 리포트용)
+ */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@IdClass(SalesRollupHourlyId.class)
+@Table(name = "sales_rollup_hourly",
+        indexes = {
+                @Index(name = "idx_sales_rollup_branch_hour", columnList = "branch_id, bucket_hour")
+        })
+@Entity
+public class SalesRollupHourly {
+
+    @Id
+    @Column(name = "bucket_hour")
+    private LocalDateTime bucketHour;   // 정시 단위 (분/초 0)
+
+    @Id
+    @Column(name = "branch_id")
+    private Long branchId;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;              // 판매 수량
+
+    @Column(name = "revenue", nullable = false)
+    private long revenue;               // 매출 (할인 반영된 주문 상세 금액 합)
+}
@@ -0,0 +1,24 @@
+package com.codepresso.codepresso.sales.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 매출 집계 복합키 클래스
+ * bucket_hour, branch_id, product_id 의 조합
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SalesRollupHourlyId implements Serializable {
+
+    private LocalDateTime bucketHour;
+    private Long branchId;
+    private Long productId;
+}
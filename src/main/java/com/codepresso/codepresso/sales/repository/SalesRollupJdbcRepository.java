@@ -0,0 +1,83 @@
+package com.codepresso.codepresso.sales.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매출 집계 JDBC 접근
+ * - 누적분 batch upsert
+ * - 백필용 주문 상세 스트리밍 (MySQL fetchSize = Integer.MIN_VALUE, 행 단위 전달)
+ */
+@Repository
+public class SalesRollupJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public SalesRollupJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 집계 한 칸
+     */
+    public record Cell(LocalDateTime bucketHour, long branchId, long productId, long quantity, long revenue) {}
+
+    /**
+     * 누적분 더하기 (실시간 flush)
+     */
+    public void addAll(List<Cell> cells) {
+        batchUpsert(cells,
+                "INSERT INTO sales_rollup_hourly (bucket_hour, branch_id, product_id, quantity, revenue) " +
+                "VALUES (?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), revenue = revenue + VALUES(revenue)");
+    }
+
+    /**
+     * 구간 값 교체 (백필)
+     */
+    public void replaceRange(LocalDateTime from, LocalDateTime to, List<Cell> cells) {
+        jdbcTemplate.update("DELETE FROM sales_rollup_hourly WHERE bucket_hour >= ? AND bucket_hour < ?",
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        batchUpsert(cells,
+                "INSERT INTO sales_rollup_hourly (bucket_hour, branch_id, product_id, quantity, revenue) " +
+                "VALUES (?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE quantity = VALUES(quantity), revenue = VALUES(revenue)");
+    }
+
+    /**
+     * 구간 내 주문 상세를 hot/보관 테이블에서 순방향 스트리밍
+     * 컬럼 순서 : order_date, branch_id, product_id, quantity, price
+     */
+    public void streamOrderLines(LocalDateTime from, LocalDateTime to, RowCallbackHandler handler) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+        streamingJdbcTemplate.query(
+                "SELECT o.order_date, o.branch_id, d.product_id, d.quantity, d.price " +
+                "FROM orders o JOIN order_detail d ON d.order_id = o.order_id " +
+                "WHERE o.order_date >= ? AND o.order_date < ? " +
+                "UNION ALL " +
+                "SELECT o.order_date, o.branch_id, d.product_id, d.quantity, d.price " +
+                "FROM orders_archive o JOIN order_detail_archive d ON d.order_id = o.order_id " +
+                "WHERE o.order_date >= ? AND o.order_date < ?",
+                handler, start, end, start, end);
+    }
+
+    private void batchUpsert(List<Cell> cells, String sql) {
+        jdbcTemplate.batchUpdate(sql, cells, 500, (ps, cell) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(cell.bucketHour()));
+            ps.setLong(2, cell.branchId());
+            ps.setLong(3, cell.productId());
+            ps.setLong(4, cell.quantity());
+            ps.setLong(5, cell.revenue());
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.codepresso.codepresso.sales.repository;
+
+import com.codepresso.codepresso.sales.entity.SalesRollupHourly;
+import com.codepresso.codepresso.sales.entity.SalesRollupHourlyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollupHourly, SalesRollupHourlyId> {
+
+    interface DailySalesRow {
+        LocalDate getDay();
+        Long getBranchId();
+        Long getProductId();
+        Long getQuantity();
+        Long getRevenue();
+    }
+
+    /**
+     * 일별 지점/상품 매출 (집계 테이블만 조회)
+     * branchId 가 null 이면 전체 지점
+     */
+    @Query(value = "SELECT DATE(r.bucket_hour) AS day, r.branch_id AS branchId, r.product_id AS productId, " +
+            "SUM(r.quantity) AS quantity, SUM(r.revenue) AS revenue " +
+            "FROM sales_rollup_hourly r " +
+            "WHERE r.bucket_hour >= :from AND r.bucket_hour < :to " +
+            "AND (:branchId IS NULL OR r.branch_id = :branchId) " +
+            "GROUP BY DATE(r.bucket_hour), r.branch_id, r.product_id " +
+            "ORDER BY day, branchId, revenue DESC",
+            nativeQuery = true)
+    List<DailySalesRow> findDailySales(@Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("branchId") Long branchId);
+
+    /**
+     * 최근 시간대 집계 (인기 상품 순위 워밍업용)
+     */
+    List<SalesRollupHourly> findByBucketHourGreaterThanEqual(LocalDateTime from);
+}
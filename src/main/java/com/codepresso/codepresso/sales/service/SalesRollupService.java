@@ -0,0 +1,184 @@
+package com.codepresso.codepresso.sales.service;
+
+import com.codepresso.codepresso.order.event.OrderCreatedEvent;
+import com.codepresso.codepresso.product.service.CatalogNameDictionary;
+import com.codepresso.codepresso.sales.dto.DailySalesResponse;
+import com.codepresso.codepresso.sales.repository.SalesRollupJdbcRepository;
+import com.codepresso.codepresso.sales.repository.SalesRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 x 지점 x 상품 매출 집계
+ * - 주문 생성 이벤트(커밋 후)로 메모리 누적 (LongAdder)
+ * - 주기적으로 "지난 flush 이후 증가분"만 sales_rollup_hourly 에 upsert
+ * - 백필 : 과거 주문을 순방향 커서로 스트리밍 집계 후 구간 교체
+ * - 조회는 집계 테이블만 사용
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final SalesRollupJdbcRepository salesRollupJdbcRepository;
+    private final CatalogNameDictionary catalogNameDictionary;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Key, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    public SalesRollupService(SalesRollupRepository salesRollupRepository,
+                              SalesRollupJdbcRepository salesRollupJdbcRepository,
+                              CatalogNameDictionary catalogNameDictionary,
+                              PlatformTransactionManager transactionManager) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.salesRollupJdbcRepository = salesRollupJdbcRepository;
+        this.catalogNameDictionary = catalogNameDictionary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private record Key(LocalDateTime bucketHour, long branchId, long productId) {}
+
+    /**
+     * 누적값(quantity, revenue)과 마지막 flush 시점 값
+     * 누적값은 줄지 않으므로 flush 중 동시 증가분도 다음 flush 에서 반영됨
+     */
+    private static final class Accumulator {
+        final LongAdder quantity = new LongAdder();
+        final LongAdder revenue = new LongAdder();
+        long flushedQuantity;       // flush 스레드만 접근
+        long flushedRevenue;
+    }
+
+    /**
+     * 주문 생성 이벤트 (커밋 후) : 메모리 누적
+     */
+    @TransactionalEventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        LocalDateTime bucketHour = event.orderDate().truncatedTo(ChronoUnit.HOURS);
+        long branchId = event.branchId();
+        for (OrderCreatedEvent.Line line : event.lines()) {
+            Accumulator acc = accumulators.computeIfAbsent(new Key(bucketHour, branchId, line.productId()), k -> new Accumulator());
+            acc.quantity.add(line.quantity());
+            acc.revenue.add(line.price());
+        }
+    }
+
+    /**
+     * 증가분 flush
+     */
+    @Scheduled(fixedDelayString = "${app.sales.rollup.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        if (accumulators.isEmpty()) {
+            return;
+        }
+
+        Map<Accumulator, long[]> pending = new HashMap<>();
+        List<SalesRollupJdbcRepository.Cell> cells = new ArrayList<>();
+        for (Map.Entry<Key, Accumulator> entry : accumulators.entrySet()) {
+            Accumulator acc = entry.getValue();
+            long quantity = acc.quantity.sum();
+            long revenue = acc.revenue.sum();
+            long deltaQuantity = quantity - acc.flushedQuantity;
+            long deltaRevenue = revenue - acc.flushedRevenue;
+            if (deltaQuantity == 0 && deltaRevenue == 0) {
+                continue;
+            }
+            Key key = entry.getKey();
+            cells.add(new SalesRollupJdbcRepository.Cell(key.bucketHour(), key.branchId(), key.productId(), deltaQuantity, deltaRevenue));
+            pending.put(acc, new long[]{quantity, revenue});
+        }
+
+        if (!cells.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> salesRollupJdbcRepository.addAll(cells));
+            } catch (Exception e) {
+                // 실패 시 flush 기준값을 유지하여 다음 주기에 다시 반영
+                log.error("[SalesRollup] flush failed, will retry", e);
+                return;
+            }
+            pending.forEach((acc, flushed) -> {
+                acc.flushedQuantity = flushed[0];
+                acc.flushedRevenue = flushed[1];
+            });
+        }
+
+        // 지난 시간대 중 모두 반영된 칸은 제거 (현재/직전 시간대는 늦게 커밋되는 주문을 위해 유지)
+        LocalDateTime keepFrom = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        accumulators.entrySet().removeIf(entry ->
+                entry.getKey().bucketHour().isBefore(keepFrom)
+                        && entry.getValue().quantity.sum() == entry.getValue().flushedQuantity
+                        && entry.getValue().revenue.sum() == entry.getValue().flushedRevenue);
+
+        log.debug("[SalesRollup] flushed {} cells", cells.size());
+    }
+
+    /**
+     * 백필 : [from, to) 구간을 주문 원본에서 다시 집계하여 교체
+     * 실시간 누적과 겹치지 않도록 직전 시간대 이전까지만 허용
+     * @return 집계 칸 수
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+        LocalDateTime limit = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        if (end.isAfter(limit)) {
+            end = limit;
+        }
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("백필 구간이 올바르지 않습니다.");
+        }
+
+        Map<Key, long[]> totals = new HashMap<>();
+        salesRollupJdbcRepository.streamOrderLines(start, end, rs -> {
+            Key key = new Key(
+                    rs.getTimestamp(1).toLocalDateTime().truncatedTo(ChronoUnit.HOURS),
+                    rs.getLong(2),
+                    rs.getLong(3));
+            long[] sum = totals.computeIfAbsent(key, k -> new long[2]);
+            sum[0] += rs.getLong(4);
+            sum[1] += rs.getLong(5);
+        });
+
+        List<SalesRollupJdbcRepository.Cell> cells = new ArrayList<>(totals.size());
+        totals.forEach((key, sum) -> cells.add(
+                new SalesRollupJdbcRepository.Cell(key.bucketHour(), key.branchId(), key.productId(), sum[0], sum[1])));
+
+        LocalDateTime rangeEnd = end;
+        transactionTemplate.executeWithoutResult(status -> salesRollupJdbcRepository.replaceRange(start, rangeEnd, cells));
+        log.info("[SalesRollup] backfill {} ~ {} : {} cells", start, rangeEnd, cells.size());
+        return cells.size();
+    }
+
+    /**
+     * 일별 지점/상품 매출 (집계 테이블 조회)
+     */
+    public List<DailySalesResponse> getDailySales(LocalDate from, LocalDate to, Long branchId) {
+        List<DailySalesResponse> result = new ArrayList<>();
+        for (SalesRollupRepository.DailySalesRow row :
+                salesRollupRepository.findDailySales(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), branchId)) {
+            result.add(DailySalesResponse.builder()
+                    .day(row.getDay())
+                    .branchId(row.getBranchId())
+                    .productId(row.getProductId())
+                    .productName(catalogNameDictionary.getProductName(row.getProductId()))
+                    .quantity(row.getQuantity())
+                    .revenue(row.getRevenue())
+                    .build());
+        }
+        return result;
+    }
+}
@@ -26,15 +26,18 @@ function createProductCard(product) {
         tag = '<div class="menu-tag tag-premium">고소함</div>';
     }
 
+    const favoriteHtml = product.favorite ? '<div class="menu-favorite">♥</div>' : '';
+
     const imageHtml = product.productPhoto
         ? '<img src="' + product.productPhoto + '" alt="' + product.productName + '" class="product-photo" loading="lazy">'
         : '';
 
-    return '<div class="menu-item" onclick="location.href=\'' + contextPath + '/products/' + product.productId + '\'">' +
+    return '<div class="menu-item" data-product-id="' + product.productId + '" onclick="location.href=\'' + contextPath + '/products/' + product.productId + '\'">' +
             '<div class="menu-image-container">' +
                 '<div class="' + imageClass + '">' +
                     imageHtml +
                     tag +
+                    favoriteHtml +
                 '</div>' +
             '</div>' +
             '<div class="menu-info">' +
@@ -224,9 +227,60 @@ function initScrollSpy() {
     }, 100);
 }
 
+// ================================================
+// 선택 매장 품절 표시
+// 지점 버전(ETag)이 그대로면 304 응답, sessionStorage 에 받아둔 목록을 그대로 사용
+// ================================================
+const SOLD_OUT_CACHE_KEY = 'branchSoldOut';
+
+function applySoldOut(productIds) {
+    const soldOut = new Set(productIds.map(String));
+    document.querySelectorAll('.menu-item[data-product-id]').forEach(function (card) {
+        card.classList.toggle('sold-out', soldOut.has(card.getAttribute('data-product-id')));
+    });
+}
+
+function loadSoldOut() {
+    const branch = window.branchSelection && typeof window.branchSelection.load === 'function'
+        ? window.branchSelection.load()
+        : null;
+    if (!branch || !branch.id) {
+        applySoldOut([]);
+        return;
+    }
+
+    let cached = null;
+    try {
+        cached = JSON.parse(sessionStorage.getItem(SOLD_OUT_CACHE_KEY));
+    } catch (e) {
+        cached = null;
+    }
+    const headers = {};
+    if (cached && String(cached.branchId) === String(branch.id)) {
+        headers['If-None-Match'] = '"' + cached.version + '"';
+    }
+
+    fetch(contextPath + '/api/branches/' + branch.id + '/sold-out', { headers: headers })
+        .then(function (response) {
+            if (response.status === 304) return cached;
+            return response.ok ? response.json() : null;
+        })
+        .then(function (data) {
+            if (!data) return;
+            sessionStorage.setItem(SOLD_OUT_CACHE_KEY, JSON.stringify(data));
+            applySoldOut(data.productIds || []);
+        })
+        .catch(function (error) {
+            console.error('품절 정보 조회 실패:', error);
+        });
+}
+
+window.addEventListener('branchSelection:change', loadSoldOut);
+
 // 페이지 로드 시 실행
 document.addEventListener('DOMContentLoaded', function () {
     loadAllProducts();
+    loadSoldOut();
     initSmoothScroll();
     initScrollSpy();
     checkAndScrollToCategory();
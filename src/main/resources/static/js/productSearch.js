@@ -18,6 +18,7 @@ let selectedFilters = {
 // ================================================
 function initializeSearch() {
     loadRecentSearches();
+    loadPopularProducts();
 }
 
 // ================================================
@@ -163,8 +164,51 @@ function removeRecentSearch(event, keyword) {
 }
 
 // ================================================
-// 5. 랜덤 추천
+// 5. 인기 메뉴 / 랜덤 추천
 // ================================================
+const POPULAR_LIMIT = 8;
+
+async function loadPopularProducts() {
+    const section = document.getElementById('popularSection');
+    const list = document.getElementById('popularList');
+    if (!section || !list) {
+        return;
+    }
+
+    // 선택한 지점이 있으면 지점 기준, 없으면 전체 지점 기준
+    const branch = window.branchSelection && typeof window.branchSelection.load === 'function'
+        ? window.branchSelection.load()
+        : null;
+    const params = new URLSearchParams({ limit: POPULAR_LIMIT });
+    if (branch && branch.id) {
+        params.append('branchId', branch.id);
+    }
+
+    try {
+        const response = await fetch(`${contextPath}/api/products/popular?${params}`);
+        if (!response.ok) {
+            throw new Error('인기 메뉴 조회에 실패했습니다.');
+        }
+
+        const products = await response.json();
+        if (!products || products.length === 0) {
+            // 최근 판매 집계가 없으면 영역을 숨김 (랜덤 추천만 노출)
+            section.style.display = 'none';
+            return;
+        }
+
+        list.innerHTML = products.map(product => createProductCard(product)).join('');
+        // 검색 결과를 보고 있는 중이면 (추천 섹션이 숨겨진 상태) 결과를 다시 초기화할 때 표시
+        const recommendSection = document.querySelector('.random-recommend-section');
+        section.style.display = recommendSection && recommendSection.style.display === 'none' ? 'none' : 'block';
+    } catch (error) {
+        console.error('인기 메뉴 조회 오류:', error);
+        section.style.display = 'none';
+    }
+}
+
+window.addEventListener('branchSelection:change', loadPopularProducts);
+
 async function getRandomRecommendation() {
     try {
         // 랜덤 상품 4개 조회
@@ -355,6 +399,10 @@ function hideRecommendSection() {
     if (recommendSection) {
         recommendSection.style.display = 'none';
     }
+    const popularSection = document.getElementById('popularSection');
+    if (popularSection) {
+        popularSection.style.display = 'none';
+    }
 }
 
 function showRecommendSection() {
@@ -362,6 +410,10 @@ function showRecommendSection() {
     if (recommendSection) {
         recommendSection.style.display = 'block';
     }
+    const popularList = document.getElementById('popularList');
+    if (popularList && popularList.children.length > 0) {
+        document.getElementById('popularSection').style.display = 'block';
+    }
 }
 
 function formatNumber(num) {
@@ -89,12 +89,14 @@
         </c:if>
 
         <c:choose>
-            <c:when test="${not empty favoriteList.favorites and favoriteList.totalCount > 0}">
-                <!-- 즐겨찾기 통계 -->
-                <div class="favorite-stats"
-                     style="background: var(--pink-4); padding: 12px 16px; border-radius: 12px; text-align:center;">
-                    <strong style="color: var(--pink-1);">총 ${favoriteList.totalCount}개 즐겨찾기</strong>
-                </div>
+            <c:when test="${not empty favoriteList.favorites}">
+                <!-- 즐겨찾기 통계 (총 개수는 첫 페이지에서만 계산) -->
+                <c:if test="${favoriteList.totalCount > 0}">
+                    <div class="favorite-stats"
+                         style="background: var(--pink-4); padding: 12px 16px; border-radius: 12px; text-align:center;">
+                        <strong style="color: var(--pink-1);">총 ${favoriteList.totalCount}개 즐겨찾기</strong>
+                    </div>
+                </c:if>
 
                 <!-- 즐겨찾기 목록 -->
                 <div class="favorite-grid"
@@ -132,6 +134,19 @@
                         </div>
                     </c:forEach>
                 </div>
+
+                <!-- 페이징 (커서 기반) -->
+                <c:if test="${favoriteList.hasNext || !isFirstPage}">
+                    <div class="favorite-pagination" style="display:flex; gap:8px; justify-content:center; margin-top:24px;">
+                        <c:if test="${!isFirstPage}">
+                            <a href="/favorites" class="btn btn-ghost">← 처음</a>
+                        </c:if>
+                        <c:if test="${favoriteList.hasNext}">
+                            <a href="/favorites?cursorOrderby=${favoriteList.nextOrderby}&cursorProductId=${favoriteList.nextProductId}"
+                               class="btn btn-ghost">다음 →</a>
+                        </c:if>
+                    </div>
+                </c:if>
             </c:when>
             <c:otherwise>
                 <!-- 즐겨찾기가 없는 경우 -->
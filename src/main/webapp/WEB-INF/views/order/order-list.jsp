@@ -34,7 +34,7 @@
     <!-- 주문 통계 -->
     <c:if test="${hasOrders}">
       <div class="order-stats">
-        <strong>총 ${totalCount}개 주문 (기간 ${filteredCount}개)</strong>
+        <strong>총 ${totalCount}개 주문</strong>
       </div>
     </c:if>
 
@@ -81,47 +81,36 @@
           </c:forEach>
         </div>
 
-        <!-- 페이징 UI -->
-        <c:if test="${totalPages > 1}">
+        <!-- 페이징 UI (커서 기반) -->
+        <c:if test="${hasNext || hasPrevious}">
           <div class="pagination-container">
             <!-- 페이지 정보 -->
             <div class="pagination-info">
-              <span>전체 ${filteredCount}건</span>
-              <span>|</span>
-              <span>${currentPage + 1} / ${totalPages} 페이지</span>
+              <c:if test="${filteredCount != null}">
+                <span>전체 ${filteredCount}건</span>
+                <span>|</span>
+                <span>${currentPage + 1} / ${totalPages} 페이지</span>
+              </c:if>
+              <c:if test="${filteredCount == null}">
+                <span>${currentPage + 1} 페이지</span>
+              </c:if>
             </div>
 
             <!-- 페이지네이션 -->
             <div class="pagination">
-              <!-- 이전 버튼 -->
+              <!-- 처음으로 -->
               <c:if test="${hasPrevious}">
-                <a href="/orders?period=${selectedPeriod}&page=${currentPage - 1}" class="pagination-btn">
-                  ← 이전
+                <a href="/orders?period=${selectedPeriod}" class="pagination-btn">
+                  ← 처음
                 </a>
               </c:if>
               <c:if test="${!hasPrevious}">
-                <span class="pagination-btn disabled">← 이전</span>
+                <span class="pagination-btn disabled">← 처음</span>
               </c:if>
 
-              <!-- 페이지 번호 -->
-              <div class="pagination-numbers">
-                <c:forEach var="pageNum" items="${pageNumbers}">
-                  <c:choose>
-                    <c:when test="${pageNum == currentPage}">
-                      <span class="pagination-number active">${pageNum + 1}</span>
-                    </c:when>
-                    <c:otherwise>
-                      <a href="/orders?period=${selectedPeriod}&page=${pageNum}" class="pagination-number">
-                        ${pageNum + 1}
-                      </a>
-                    </c:otherwise>
-                  </c:choose>
-                </c:forEach>
-              </div>
-
               <!-- 다음 버튼 -->
               <c:if test="${hasNext}">
-                <a href="/orders?period=${selectedPeriod}&page=${currentPage + 1}" class="pagination-btn">
+                <a href="/orders?period=${selectedPeriod}&cursor=${nextCursor}&page=${currentPage + 1}" class="pagination-btn">
                   다음 →
                 </a>
               </c:if>
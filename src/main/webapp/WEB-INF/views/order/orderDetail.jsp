@@ -30,14 +30,14 @@
             <div class="order-status-section">
                 <div class="status-header">
                     <div class="order-number">주문번호(${orderDetail.orderNumber})</div>
-                    <span class="status-badge status-${orderDetail.productionStatus == '주문접수' ? 'received' : orderDetail.productionStatus == '제조중' ? 'making' :orderDetail.productionStatus == '제조완료' ? 'complete' : 'pickup'}" ">
+                    <span id="statusBadge" class="status-badge status-${orderDetail.productionStatus == '주문접수' ? 'received' : orderDetail.productionStatus == '제조중' ? 'making' :orderDetail.productionStatus == '제조완료' ? 'complete' : 'pickup'}" ">
                         ${orderDetail.productionStatus}
                     </span>
                 </div>
 
                 <div class="status-progress">
                     <div class="progress-bar">
-                        <div class="progress-fill" style="width: ${orderDetail.productionStatus == '주문접수' ? '25' : orderDetail.productionStatus == '제조중' ? '50' : orderDetail.productionStatus == '제조완료' ? '75' : '100'}%;"></div>
+                        <div id="progressFill" class="progress-fill" style="width: ${orderDetail.productionStatus == '주문접수' ? '25' : orderDetail.productionStatus == '제조중' ? '50' : orderDetail.productionStatus == '제조완료' ? '75' : '100'}%;"></div>
                     </div>
                     <div class="progress-steps">
                         <div class="step">주문접수</div>
@@ -56,6 +56,12 @@
                         <span class="meta-label">픽업예정</span>
                         <span class="meta-value">${orderDetail.pickupTime.toString().substring(0,16).replace('T', ' ')}</span>
                     </div>
+                    <c:if test="${not empty estimatedReadyAt}">
+                        <div class="meta-row" id="estimatedReadyRow">
+                            <span class="meta-label">제조완료 예상</span>
+                            <span class="meta-value">${estimatedReadyAt.toString().substring(11,16)}</span>
+                        </div>
+                    </c:if>
                     <div class="meta-row">
                         <span class="meta-label">주문형태</span>
                         <span class="meta-value">${orderDetail.isTakeout ? '테이크아웃' : '매장'}</span>
@@ -240,6 +246,29 @@
         document.body.appendChild(form);
         form.submit();
     }
+
+    // 제조 상태 실시간 반영 (SSE) - 픽업완료 전 주문만 구독
+    (function subscribeStatus() {
+        const currentStatus = '${orderDetail.productionStatus}';
+        if (currentStatus === '픽업완료' || !window.EventSource) return;
+
+        const statusClass = { '주문접수': 'received', '제조중': 'making', '제조완료': 'complete', '픽업완료': 'pickup' };
+        const progress = { '주문접수': 25, '제조중': 50, '제조완료': 75, '픽업완료': 100 };
+
+        const source = new EventSource('/api/users/orders/${orderDetail.orderId}/status/stream');
+        source.addEventListener('status', function (e) {
+            const item = JSON.parse(e.data);
+            const badge = document.getElementById('statusBadge');
+            badge.textContent = item.productionStatus;
+            badge.className = 'status-badge status-' + (statusClass[item.productionStatus] || 'pickup');
+            document.getElementById('progressFill').style.width = (progress[item.productionStatus] || 100) + '%';
+            const estimatedRow = document.getElementById('estimatedReadyRow');
+            if (estimatedRow && (item.productionStatus === '제조완료' || item.productionStatus === '픽업완료')) {
+                estimatedRow.remove();
+            }
+            if (item.productionStatus === '픽업완료') source.close();
+        });
+    })();
 </script>
 
 <%@ include file="/WEB-INF/views/common/footer.jspf" %>
@@ -171,6 +171,7 @@
             <!-- 픽업 예정시간 -->
             <div class="pickup-section">
                 <h2 class="section-title">픽업 예정시간</h2>
+                <p id="prepEta" class="prep-eta" style="display:none; color:#777; font-size:14px; margin-bottom:10px;"></p>
                 <div class="pickup-time">
                     <div class="time-options">
                         <label class="time-option">
@@ -459,6 +460,44 @@
   })();
 </script>
 
+<!-- 선택 매장의 예상 제조 시간 표시, 그보다 이른 픽업 시간은 다음 선택지로 -->
+<script>
+  (function(){
+    const productIds = [
+      <c:forEach var="item" items="${not empty orderItems ? orderItems : directItems}" varStatus="status">${item.productId}<c:if test="${!status.last}">,</c:if></c:forEach>
+    ];
+
+    function showEta(){
+      const sel = window.branchSelection && typeof window.branchSelection.load === 'function'
+          ? window.branchSelection.load()
+          : null;
+      if (!sel || !sel.id || productIds.length === 0) return;
+
+      fetch('/branch/' + sel.id + '/prep-eta?productIds=' + productIds.join(','))
+          .then(function(res){ return res.ok ? res.json() : null; })
+          .then(function(data){
+            if (!data) return;
+            const minutes = Math.ceil(data.estimatedSeconds / 60);
+            const target = document.getElementById('prepEta');
+            target.textContent = '현재 매장 예상 준비 시간 약 ' + minutes + '분';
+            target.style.display = 'block';
+
+            const options = document.querySelectorAll('input[name="pickupTime"]');
+            const checked = document.querySelector('input[name="pickupTime"]:checked');
+            if (checked && parseInt(checked.value) < minutes) {
+              for (const option of options) {
+                if (parseInt(option.value) >= minutes) { option.checked = true; return; }
+              }
+              options[options.length - 1].checked = true;
+            }
+          })
+          .catch(function(){});
+    }
+
+    document.addEventListener('DOMContentLoaded', showEta);
+  })();
+</script>
+
 <!-- 직접결제 데이터를 JavaScript 변수로 변환 -->
 <script>
     // JSTL에서 직접결제 데이터 추출
@@ -532,6 +571,24 @@
         amountInput.value = finalAmount;
         form.appendChild(amountInput);
 
+        // 매장/쿠폰 선택 (서버에서 결제 견적 발급 시 사용)
+        const selectedBranch = window.branchSelection && window.branchSelection.load
+            ? window.branchSelection.load()
+            : null;
+        if (selectedBranch && selectedBranch.id) {
+            const branchInput = document.createElement('input');
+            branchInput.type = 'hidden';
+            branchInput.name = 'branchId';
+            branchInput.value = selectedBranch.id;
+            form.appendChild(branchInput);
+        }
+
+        const useCouponInput = document.createElement('input');
+        useCouponInput.type = 'hidden';
+        useCouponInput.name = 'useCoupon';
+        useCouponInput.value = checkoutOptions.useCoupon;
+        form.appendChild(useCouponInput);
+
         // 직접결제인 경우 추가 파라미터 전달 (JavaScript로 처리)
         if (directCheckoutData) {
             // productId
@@ -7,6 +7,7 @@
     <div class="container">
         <div class="success-card">
             <h1>결제 성공!</h1>
+            <p id="pickupNotice" style="display: none;"></p>
             <p id="redirectMessage" style="display: none; color: var(--pink-1); font-weight: 600; margin-top: 20px;">
                 주문 상세 페이지로 이동합니다...
             </p>
@@ -98,6 +99,7 @@
                 useCoupon: orderData.useCoupon || false,
                 discountAmount: orderData.discountAmount || 0,
                 isFromCart: orderData.isFromCart || false,
+                quoteToken: orderData.quoteToken,
                 finalAmount: parseInt(amount)
             };
 
@@ -124,16 +126,24 @@
                 // 세션 스토리지에 주문 상세 정보 저장
                 sessionStorage.setItem('orderDetailData', JSON.stringify(result));
                 
+                // 픽업 시각이 조정되었으면 안내 (지점 예상 제조 시간 또는 시간대 마감)
+                const pickupNotice = document.getElementById('pickupNotice');
+                if (pickupNotice && result.pickupTimeAdjusted && result.pickupTime) {
+                    pickupNotice.textContent = '매장 준비 상황에 따라 픽업 시각이 '
+                        + String(result.pickupTime).substring(11, 16) + '(으)로 조정되었습니다.';
+                    pickupNotice.style.display = 'block';
+                }
+
                 // 리다이렉트 메시지 표시
                 const redirectMessage = document.getElementById('redirectMessage');
                 if (redirectMessage) {
                     redirectMessage.style.display = 'block';
                 }
                 
-                // 2초 후 주문 상세 페이지로 이동
+                // 2초 후 주문 상세 페이지로 이동 (픽업 시각 안내가 있으면 4초)
                 setTimeout(() => {
                     window.location.href = '/orders/' + result.orderId;
-                }, 2000);
+                }, result.pickupTimeAdjusted ? 4000 : 2000);
             } else {
                 throw new Error('주문 ID를 받지 못했습니다.');
             }
@@ -334,9 +334,10 @@
                 package: checkoutOptions.packageType || 'none',
                 pickupTime: pickupTime,
                 requestNote: checkoutOptions.requestNote || '',
-                useCoupon: checkoutOptions.useCoupon || false,
-                discountAmount: checkoutOptions.discountAmount || 0,
+                useCoupon: ${discountAmount != null && discountAmount > 0},
+                discountAmount: ${discountAmount != null ? discountAmount : 0},
                 isFromCart: ${isFromCart != null ? isFromCart : false},
+                quoteToken: '${quoteToken}',
                 orderItems: orderItems
             };
 
@@ -363,7 +364,7 @@
             })();
 
             await widgets.requestPayment({
-                orderId: "order_" + Date.now() + "_" + Math.floor(Math.random() * 1000),
+                orderId: '${tossOrderId}',     // 결제 견적에 서명된 orderId
                 orderName: orderName,
                 successUrl: window.location.origin + "/payments/success",
                 failUrl: window.location.origin + "/payments/fail",
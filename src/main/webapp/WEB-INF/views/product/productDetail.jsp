@@ -272,7 +272,7 @@
         var currentQuantity = 1;
         var selectedOptions = {}; // 선택된 옵션들을 저장
         var totalExtraPrice = 0; // 추가 가격 총합
-        var isFavorite = false; // 즐겨찾기 상태
+        var isFavorite = ${favorited == true}; // 즐겨찾기 상태 (서버에서 회원 비트셋으로 확인)
         var currentFavoriteCount = ${product.favCount}; // 현재 즐겨찾기 수
 
         // 동적으로 옵션 UI 생성
@@ -509,50 +509,9 @@
             }
         }
 
-        // 현재 즐겨찾기 상태 확인
+        // 현재 즐겨찾기 상태 표시 (목록 전체를 다시 받지 않음)
         function checkFavoriteStatus() {
-            <c:if test="${pageContext.request.userPrincipal != null}">
-            console.log('=== 즐겨찾기 상태 확인 시작 ===');
-
-            fetch('${pageContext.request.contextPath}/users/favorites', {
-                method: 'GET'
-            })
-                .then(response => {
-                    console.log('즐겨찾기 목록 응답 상태:', response.status);
-                    if (response.ok) {
-                        return response.json();
-                    }
-                    throw new Error(`즐겨찾기 목록을 가져올 수 없습니다. 상태: ${response.status}`);
-                })
-                .then(data => {
-                    console.log('즐겨찾기 목록 응답 데이터:', data);
-
-                    // FavoriteListResponse 구조에 맞게 수정
-                    if (data && data.favorites && Array.isArray(data.favorites)) {
-                        console.log('즐겨찾기 목록:', data.favorites);
-                        console.log('현재 상품 ID:', currentProduct.id);
-
-                        // 현재 상품이 즐겨찾기 목록에 있는지 확인
-                        isFavorite = data.favorites.some(favorite => {
-                            console.log('비교:', favorite.productId, '===', currentProduct.id);
-                            return favorite.productId === currentProduct.id;
-                        });
-
-                        console.log('즐겨찾기 상태:', isFavorite);
-                        updateFavoriteUI();
-                    } else {
-                        console.log('즐겨찾기 목록이 없거나 형식이 잘못됨');
-                        isFavorite = false;
-                        updateFavoriteUI();
-                    }
-                })
-                .catch(error => {
-                    console.error('즐겨찾기 상태 확인 실패:', error);
-                    // 에러 시 기본값으로 설정
-                    isFavorite = false;
-                    updateFavoriteUI();
-                });
-            </c:if>
+            updateFavoriteUI();
         }
 
         // 페이지 로드 시 초기화 - 중복 제거하고 통합
@@ -595,6 +554,14 @@
             formData.append('productId', currentProduct.id);
             formData.append('quantity', currentQuantity);
 
+            // 선택 매장 (품절 확인용)
+            const selectedBranch = window.branchSelection && typeof window.branchSelection.load === 'function'
+                ? window.branchSelection.load()
+                : null;
+            if (selectedBranch && selectedBranch.id) {
+                formData.append('branchId', selectedBranch.id);
+            }
+
             // 선택된 옵션 ID들 추가
             selectedOptionIds.forEach(id => {
                 formData.append('optionIds', id);
@@ -12,6 +12,30 @@
 <main class="product-page-main product-list-main">
     <%@ include file="/WEB-INF/views/product/product-category-nav.jspf" %>
 
+    <!-- 자주 주문한 메뉴 (로그인 회원) -->
+    <c:if test="${not empty usualOrders}">
+        <div class="container usual-orders">
+            <section class="category-section">
+                <div class="section-header">
+                    <h2 class="section-title">자주 주문한 메뉴 <span class="section-subtitle">MY USUAL</span></h2>
+                </div>
+                <div class="menu-grid">
+                    <c:forEach items="${usualOrders}" var="usual">
+                        <div class="menu-item" onclick="location.href='${pageContext.request.contextPath}/products/${usual.productId}'">
+                            <div class="menu-info">
+                                <div class="menu-name">${fn:escapeXml(usual.productName)}</div>
+                                <c:if test="${not empty usual.optionNames}">
+                                    <div class="usual-options">${fn:escapeXml(fn:join(usual.optionNames.toArray(), ', '))}</div>
+                                </c:if>
+                                <div class="usual-count">${usual.orderCount}회 주문</div>
+                            </div>
+                        </div>
+                    </c:forEach>
+                </div>
+            </section>
+        </div>
+    </c:if>
+
     <div class="container" id="products-container">
         <!-- 상품 목록이 JavaScript로 동적으로 로드됩니다 -->
         <div class="loading-spinner" style="text-align: center; padding: 100px 20px;">
@@ -31,7 +55,8 @@
                 productName: '${fn:escapeXml(product.productName)}',
                 productPhoto: '${product.productPhoto}',
                 price: ${product.price},
-                categoryCode: '${product.categoryCode}'
+                categoryCode: '${product.categoryCode}',
+                favorite: ${not empty favoriteProductIds and favoriteProductIds.contains(product.productId)}
             }<c:if test="${!status.last}">,</c:if>
             </c:forEach>
         ];
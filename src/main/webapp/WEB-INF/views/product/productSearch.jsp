@@ -50,6 +50,14 @@
                 </div>
             </div>
 
+            <!-- 인기 메뉴 섹션 (최근 24시간 판매 수량) -->
+            <div class="popular-section" id="popularSection" style="display: none;">
+                <h3 class="section-subtitle">지금 많이 팔리는 메뉴</h3>
+                <div class="results-list" id="popularList">
+                    <!-- JavaScript로 동적 생성 -->
+                </div>
+            </div>
+
             <!-- 랜덤 추천 섹션 -->
             <div class="random-recommend-section">
                 <div class="recommend-header">
@@ -0,0 +1,93 @@
+package com.codepresso.codepresso.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BranchSlots 는 패키지 내부 클래스라 같은 패키지에서 검증
+ */
+class PickupSlotSchedulerTest {
+
+    private static final int SIZE = 16;
+    private static final int CAPACITY = 2;
+    private static final long START = 1_000;
+
+    @Test
+    @DisplayName("연속한 시간대를 채우면 힌트가 첫 빈 시간대로 전진하고, 탐색은 힌트부터 시작한다")
+    void hintAdvancesPastFullSlots() {
+        PickupSlotScheduler.BranchSlots slots = new PickupSlotScheduler.BranchSlots(SIZE, CAPACITY, START);
+
+        fill(slots, START, 5);
+
+        assertThat(slots.hint()).isEqualTo(START + 5);
+        assertThat(slots.findFree(START, START, START + SIZE)).isEqualTo(START + 5);
+        // 가득 찬 시간대를 다시 훑지 않음 (힌트 그대로)
+        assertThat(slots.hint()).isEqualTo(START + 5);
+    }
+
+    @Test
+    @DisplayName("순서와 상관없이 채워도 힌트 위치가 가득 차면 이어진 가득 찬 구간 뒤로 이동한다")
+    void hintSkipsAlreadyFullRun() {
+        PickupSlotScheduler.BranchSlots slots = new PickupSlotScheduler.BranchSlots(SIZE, CAPACITY, START);
+
+        fill(slots, START + 1, 3);
+        assertThat(slots.hint()).isEqualTo(START);
+
+        fill(slots, START, 1);
+
+        assertThat(slots.hint()).isEqualTo(START + 4);
+    }
+
+    @Test
+    @DisplayName("반납된 시간대로 힌트가 당겨진다")
+    void releasePullsHintBack() {
+        PickupSlotScheduler.BranchSlots slots = new PickupSlotScheduler.BranchSlots(SIZE, CAPACITY, START);
+        fill(slots, START, 5);
+
+        slots.decrement(START + 2);
+
+        assertThat(slots.hint()).isEqualTo(START + 2);
+        assertThat(slots.findFree(START, START, START + SIZE)).isEqualTo(START + 2);
+    }
+
+    @Test
+    @DisplayName("힌트보다 뒤에서 시작하는 탐색은 힌트를 옮기지 않는다")
+    void searchFromLaterSlotKeepsHint() {
+        PickupSlotScheduler.BranchSlots slots = new PickupSlotScheduler.BranchSlots(SIZE, CAPACITY, START);
+        fill(slots, START + 6, 2);
+
+        assertThat(slots.findFree(START, START + 6, START + SIZE)).isEqualTo(START + 8);
+        assertThat(slots.hint()).isEqualTo(START);
+    }
+
+    @Test
+    @DisplayName("지난 시간대에 머문 힌트는 요청 시점의 가장 이른 시간대로 재설정된다")
+    void staleHintRebasesToEarliest() {
+        PickupSlotScheduler.BranchSlots slots = new PickupSlotScheduler.BranchSlots(SIZE, CAPACITY, START);
+        long earliest = START + 10;
+        fill(slots, earliest, 2);
+
+        assertThat(slots.findFree(earliest, earliest, earliest + SIZE)).isEqualTo(earliest + 2);
+        assertThat(slots.hint()).isEqualTo(earliest + 2);
+    }
+
+    @Test
+    @DisplayName("관리 범위가 모두 차면 limit 을 돌려준다")
+    void returnsLimitWhenAllFull() {
+        PickupSlotScheduler.BranchSlots slots = new PickupSlotScheduler.BranchSlots(SIZE, CAPACITY, START);
+        fill(slots, START, SIZE);
+
+        assertThat(slots.findFree(START, START, START + SIZE)).isEqualTo(START + SIZE);
+        assertThat(slots.tryIncrement(START)).isFalse();
+    }
+
+    private static void fill(PickupSlotScheduler.BranchSlots slots, long from, int count) {
+        for (long slot = from; slot < from + count; slot++) {
+            for (int i = 0; i < CAPACITY; i++) {
+                assertThat(slots.tryIncrement(slot)).isTrue();
+            }
+        }
+    }
+}
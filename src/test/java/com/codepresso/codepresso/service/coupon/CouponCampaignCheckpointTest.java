@@ -0,0 +1,87 @@
+package com.codepresso.codepresso.service.coupon;
+
+import com.codepresso.codepresso.common.reference.ReferenceDataRegistry;
+import com.codepresso.codepresso.coupon.entity.CouponCampaign;
+import com.codepresso.codepresso.coupon.repository.CouponCampaignJdbcRepository;
+import com.codepresso.codepresso.coupon.repository.CouponCampaignRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+public class CouponCampaignCheckpointTest {
+
+    @Autowired
+    private CouponCampaignJdbcRepository couponCampaignJdbcRepository;
+
+    @Autowired
+    private CouponCampaignRepository couponCampaignRepository;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("진행 위치부터 다시 스트리밍하면 남은 회원만 순서대로, 중복 없이 나옴")
+    void resumeFromCheckpointStreamsRemainingMembers() {
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+        List<Long> all = stream(FROM, to, 0L);
+        assumeTrue(all.size() >= 2, "주문 회원이 2명 이상 있어야 함");
+
+        // 회원 ID 오름차순, 중복 없음 (hot/보관 테이블 UNION)
+        assertThat(all).isSorted().doesNotHaveDuplicates();
+
+        // 절반까지 발급 후 중단되었다고 보고 이어서 스트리밍
+        int half = all.size() / 2;
+        long checkpoint = all.get(half - 1);
+        List<Long> resumed = stream(FROM, to, checkpoint);
+
+        log.info("전체 대상 {}명, 진행 위치 {}, 이어서 {}명", all.size(), checkpoint, resumed.size());
+        assertThat(resumed).containsExactlyElementsOf(all.subList(half, all.size()));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("진행 위치는 기대한 위치에서만 이동 (중복 실행 시 한쪽만 성공)")
+    void advanceCheckpointOnlyFromExpectedPosition() {
+        LocalDateTime now = LocalDateTime.now();
+        CouponCampaign campaign = couponCampaignRepository.save(CouponCampaign.builder()
+                .couponTypeId(referenceDataRegistry.getCouponType(ReferenceDataRegistry.STAMP_REWARD).id())
+                .orderedFrom(FROM)
+                .orderedTo(now)
+                .expiryDate(now.plusDays(7))
+                .status(CouponCampaign.Status.PAUSED)
+                .checkpointMemberId(0L)
+                .issuedCount(0L)
+                .createdAt(now)
+                .build());
+
+        int first = couponCampaignJdbcRepository.advanceCheckpoint(campaign.getId(), 0L, 100L, 3);
+        int stale = couponCampaignJdbcRepository.advanceCheckpoint(campaign.getId(), 0L, 200L, 5);
+        int next = couponCampaignJdbcRepository.advanceCheckpoint(campaign.getId(), 100L, 200L, 2);
+
+        assertThat(first).isEqualTo(1);
+        assertThat(stale).isZero();
+        assertThat(next).isEqualTo(1);
+    }
+
+    private List<Long> stream(LocalDateTime from, LocalDateTime to, long afterMemberId) {
+        List<Long> memberIds = new ArrayList<>();
+        couponCampaignJdbcRepository.streamTargetMembers(from, to, afterMemberId, rs -> memberIds.add(rs.getLong(1)));
+        return memberIds;
+    }
+}
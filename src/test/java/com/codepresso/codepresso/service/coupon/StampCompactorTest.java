@@ -0,0 +1,85 @@
+package com.codepresso.codepresso.service.coupon;
+
+import com.codepresso.codepresso.coupon.repository.StampJdbcRepository;
+import com.codepresso.codepresso.coupon.service.StampCompactor;
+import com.codepresso.codepresso.coupon.service.StampService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+public class StampCompactorTest {
+
+    @Autowired
+    private StampCompactor stampCompactor;
+
+    @Autowired
+    private StampService stampService;
+
+    @Autowired
+    private StampJdbcRepository stampJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("ID 를 먼저 받고 늦게 커밋된 스탬프 이벤트도 압축되고 잔액에서 빠지지 않음")
+    void lateCommittedEventIsCompacted() throws Exception {
+        long memberId = 3L;
+        // 압축 대기 시간(settle-seconds)보다 오래된 시각으로 기록, +1 / -1 이라 쿠폰 교환 기준(10개)을 건드리지 않음
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        int before = stampService.getMemberStamp(memberId);
+
+        // 1. 낮은 ID 의 이벤트를 INSERT 한 채 커밋을 미룸
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> late = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    stampJdbcRepository.insertEvent(memberId, null, 1, createdAt);
+                    inserted.countDown();
+                    try {
+                        commit.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 2. 더 높은 ID 의 이벤트를 먼저 커밋하고 압축 (낮은 ID 이벤트는 아직 보이지 않음)
+        stampJdbcRepository.insertEvent(memberId, null, -1, createdAt);
+        stampCompactor.compact();
+
+        // 3. 낮은 ID 이벤트 커밋 후 다시 압축
+        commit.countDown();
+        late.get(30, TimeUnit.SECONDS);
+        assertThat(stampService.getMemberStamp(memberId)).isEqualTo(before);
+
+        stampCompactor.compact();
+
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM stamp_event WHERE member_id = ? AND compacted = 0 AND created_at < ?",
+                Integer.class, memberId, LocalDateTime.now().minusMinutes(5));
+        log.info("압축 후 잔액 : {}, 미압축 이벤트 : {}", stampService.getMemberStamp(memberId), pending);
+
+        assertThat(pending).isZero();
+        assertThat(stampService.getMemberStamp(memberId)).isEqualTo(before);
+    }
+}
@@ -0,0 +1,108 @@
+package com.codepresso.codepresso.service.coupon;
+
+import com.codepresso.codepresso.coupon.entity.MemberCoupon;
+import com.codepresso.codepresso.coupon.repository.MemberCouponRepository;
+import com.codepresso.codepresso.coupon.repository.StampJdbcRepository;
+import com.codepresso.codepresso.coupon.service.StampService;
+import com.codepresso.codepresso.order.entity.OrdersDetail;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+public class StampServiceTest {
+
+    @Autowired
+    private StampService stampService;
+
+    @Autowired
+    private StampJdbcRepository stampJdbcRepository;
+
+    @Autowired
+    private MemberCouponRepository memberCouponRepository;
+
+    @Test
+    @Transactional
+    @DisplayName("스탬프 25개 적립 - 쿠폰 2장 발급 + 스탬프 5개 유지")
+    void earnStampsIssuesRewardsPerTenStamps() {
+        long memberId = 1L;
+        // 기존 잔액을 0 으로 맞춤 (테스트 트랜잭션이므로 롤백됨)
+        int before = stampService.getMemberStamp(memberId);
+        if (before != 0) {
+            stampJdbcRepository.insertEvent(memberId, null, -before, LocalDateTime.now());
+        }
+        int couponsBefore = memberCouponRepository.countByMemberIdAndStatus(memberId, MemberCoupon.CouponStatus.UNUSED);
+
+        stampService.earnStampsFromOrder(memberId, null, List.of(
+                OrdersDetail.builder().quantity(20).build(),
+                OrdersDetail.builder().quantity(5).build()));
+
+        int coupons = memberCouponRepository.countByMemberIdAndStatus(memberId, MemberCoupon.CouponStatus.UNUSED);
+        assertThat(stampService.getMemberStamp(memberId)).isEqualTo(5);
+        assertThat(coupons - couponsBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 회원 동시 쿠폰 교환 - reward_seq 로 중복 발급 없음")
+    void concurrentRewardsAreIssuedOnce() throws InterruptedException {
+        long memberId = 2L;
+        int threadCount = 20;
+        int before = stampService.getMemberStamp(memberId);
+        int couponsBefore = memberCouponRepository.countByMemberIdAndStatus(memberId, MemberCoupon.CouponStatus.UNUSED);
+
+        // 교환 없이 30개 적립 (자동 커밋)
+        stampJdbcRepository.insertEvent(memberId, null, 30, LocalDateTime.now());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    issued.addAndGet(stampService.issueRewards(memberId, null));
+                } catch (Exception e) {
+                    // 데드락 희생 등으로 롤백된 교환은 아래 보정 호출에서 처리
+                    failCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await(10, TimeUnit.SECONDS);
+        start.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // 압축기의 교환 보정과 같은 호출 (남은 잔액이 10개 이상이면 교환)
+        issued.addAndGet(stampService.issueRewards(memberId, null));
+
+        int coupons = memberCouponRepository.countByMemberIdAndStatus(memberId, MemberCoupon.CouponStatus.UNUSED);
+        log.info("동시 교환 결과 : 발급 {}, 실패 {}, 잔액 {}", issued.get(), failCount.get(), stampService.getMemberStamp(memberId));
+
+        assertThat(issued.get()).isEqualTo((before + 30) / 10);
+        assertThat(coupons - couponsBefore).isEqualTo(issued.get());
+        assertThat(stampService.getMemberStamp(memberId)).isEqualTo((before + 30) % 10);
+    }
+}
@@ -1,6 +1,8 @@
 package com.codepresso.codepresso.service.member;
 
 import com.codepresso.codepresso.member.service.FavoriteAtomicService;
+import com.codepresso.codepresso.member.service.FavoriteBufferedService;
+import com.codepresso.codepresso.member.service.FavoriteCounterBuffer;
 import com.codepresso.codepresso.member.service.FavoriteOptimisticService;
 import com.codepresso.codepresso.member.service.FavoritePessimisticService;
 import com.codepresso.codepresso.member.service.FavoriteService;
@@ -35,6 +37,12 @@ public class FavoriteConcurrencyTest {
     @Autowired
     private FavoriteAtomicService favoriteAtomicService;
 
+    @Autowired
+    private FavoriteBufferedService favoriteBufferedService;
+
+    @Autowired
+    private FavoriteCounterBuffer favoriteCounterBuffer;
+
     @Autowired
     private FavoriteRepository favoriteRepository;
 
@@ -246,4 +254,61 @@ public class FavoriteConcurrencyTest {
         assertThat(actualFavoriteCount).isEqualTo(THREAD_COUNT);
         assertThat(actualFavoriteCount).isEqualTo(finalCount);
     }
+
+    @Test
+    @Order(5)
+    @DisplayName("LongAdder 버퍼 + 일괄 반영 방식 - 1000명 즐겨찾기 동시 요청")
+    void testBufferedCounter() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        long productId = 2;
+        long before = favoriteRepository.countByProductId(productId);
+        long startTime = System.currentTimeMillis();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            final long memberId = i + 1L;
+            executorService.execute(() -> {
+                try {
+                    favoriteBufferedService.addFavoriteWithBuffer(memberId, productId);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        long duration = System.currentTimeMillis() - startTime;
+
+        // 반영 전에도 조회 값에는 버퍼 증감이 포함됨
+        Long overlaidCount = favoriteService.getFavoriteCount(productId);
+
+        favoriteCounterBuffer.flush();
+        Long finalCount = pessimisticService.getFavoriteCount(productId);
+        long actualFavoriteCount = favoriteRepository.countByProductId(productId);
+
+        log.info("=====================================");
+        log.info("LongAdder 버퍼 방식 즐겨찾기 동시성 테스트 결과 - 1000명");
+        log.info("실행시간 : {}ms", duration);
+        log.info("처리량 : {} req/s", duration > 0 ? THREAD_COUNT * 1000L / duration : THREAD_COUNT);
+        log.info("성공 요청 : {}", successCount);
+        log.info("실패 요청 : {}", failCount);
+        log.info("반영 전 조회 값 : {}", overlaidCount);
+        log.info("실제 Favorite 레코드 수 : {}", actualFavoriteCount);
+        log.info("데이터 정합성 : {} (예상 : {}, 실제 : {})",
+                finalCount == actualFavoriteCount ? "성공" : "실패",
+                actualFavoriteCount, finalCount);
+        log.info("=====================================");
+
+        assertThat(actualFavoriteCount - before).isEqualTo(THREAD_COUNT);
+        assertThat(overlaidCount).isEqualTo(finalCount);
+        assertThat(finalCount).isEqualTo(actualFavoriteCount);
+    }
 }
@@ -0,0 +1,117 @@
+package com.codepresso.codepresso.service.member;
+
+import com.codepresso.codepresso.member.dto.FavoriteListResponse;
+import com.codepresso.codepresso.member.dto.FavoriteResponse;
+import com.codepresso.codepresso.member.service.FavoriteService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 즐겨찾기 키셋 페이징 / 일괄 순서 변경 (테스트 트랜잭션 롤백)
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class FavoriteKeysetPagingTest {
+
+    private static final long MEMBER_ID = 1L;
+    private static final int FAVORITE_COUNT = 7;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        productIds = jdbcTemplate.queryForList(
+                "SELECT product_id FROM product ORDER BY product_id LIMIT ?", Long.class, FAVORITE_COUNT);
+        assumeTrue(productIds.size() == FAVORITE_COUNT, "상품이 " + FAVORITE_COUNT + "개 이상 있어야 함");
+
+        // 기존 즐겨찾기를 비우고 정해진 순서로 추가
+        jdbcTemplate.update("DELETE FROM favorite WHERE member_id = ?", MEMBER_ID);
+        assertThat(favoriteService.addFavorites(MEMBER_ID, productIds).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("페이지 크기별로 끝까지 넘겨도 누락/중복 없이 추가 순서 그대로")
+    void pagesCoverAllFavoritesInOrder() {
+        for (int size = 1; size <= FAVORITE_COUNT + 1; size++) {
+            List<Long> paged = pageAll(size);
+            assertThat(paged).as("size=%d", size).containsExactlyElementsOf(productIds);
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 페이지 경계 - 딱 맞으면 다음 페이지 없음, 한 건 남으면 다음 페이지 1건")
+    void lastPageBoundary() {
+        FavoriteListResponse exact = favoriteService.getFavoriteList(MEMBER_ID, null, null, FAVORITE_COUNT);
+        assertThat(exact.getFavorites()).hasSize(FAVORITE_COUNT);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextOrderby()).isNull();
+        assertThat(exact.getTotalCount()).isEqualTo(FAVORITE_COUNT);
+
+        FavoriteListResponse first = favoriteService.getFavoriteList(MEMBER_ID, null, null, FAVORITE_COUNT - 1);
+        assertThat(first.getFavorites()).hasSize(FAVORITE_COUNT - 1);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalCount()).isEqualTo(FAVORITE_COUNT);
+
+        FavoriteListResponse second = favoriteService.getFavoriteList(
+                MEMBER_ID, first.getNextOrderby(), first.getNextProductId(), FAVORITE_COUNT - 1);
+        assertThat(second.getFavorites()).extracting(FavoriteResponse::getProductId)
+                .containsExactly(productIds.get(FAVORITE_COUNT - 1));
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 순서 변경 후 페이징 결과가 새 순서를 따름")
+    void reorderChangesPageOrder() {
+        List<Long> reversed = new ArrayList<>(productIds);
+        Collections.reverse(reversed);
+
+        assertThat(favoriteService.reorderFavorites(MEMBER_ID, reversed).isSuccess()).isTrue();
+        assertThat(pageAll(3)).containsExactlyElementsOf(reversed);
+    }
+
+    @Test
+    @DisplayName("중복 상품이 있는 순서 변경 요청은 거절")
+    void reorderRejectsDuplicates() {
+        List<Long> duplicated = List.of(productIds.get(0), productIds.get(0));
+        assertThat(favoriteService.reorderFavorites(MEMBER_ID, duplicated).isSuccess()).isFalse();
+        assertThat(pageAll(FAVORITE_COUNT)).containsExactlyElementsOf(productIds);
+    }
+
+    private List<Long> pageAll(int size) {
+        List<Long> result = new ArrayList<>();
+        Integer cursorOrderby = null;
+        Long cursorProductId = null;
+        while (true) {
+            FavoriteListResponse page = favoriteService.getFavoriteList(MEMBER_ID, cursorOrderby, cursorProductId, size);
+            page.getFavorites().forEach(favorite -> result.add(favorite.getProductId()));
+            if (!page.isHasNext()) {
+                return result;
+            }
+            assertThat(page.getFavorites()).hasSize(size);
+            cursorOrderby = page.getNextOrderby();
+            cursorProductId = page.getNextProductId();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.codepresso.codepresso.service.payment;
+
+import com.codepresso.codepresso.common.config.CheckoutQuoteConfig;
+import com.codepresso.codepresso.payment.dto.CheckoutQuote;
+import com.codepresso.codepresso.payment.service.CheckoutQuoteSigner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CheckoutQuoteSignerTest {
+
+    private static final String SECRET = "test-checkout-quote-secret-32bytes!";
+
+    private CheckoutQuoteSigner signer;
+
+    @BeforeEach
+    void setUp() {
+        signer = new CheckoutQuoteSigner(config(SECRET));
+    }
+
+    @Test
+    @DisplayName("서명한 견적은 그대로 복원된다 (쿠폰 ID, orderId 포함)")
+    void signAndVerify() {
+        CheckoutQuote quote = quote(2000, 77L, signer.nextExpiry());
+
+        CheckoutQuote verified = signer.verify(signer.sign(quote));
+
+        assertThat(verified.getMemberId()).isEqualTo(1L);
+        assertThat(verified.getBranchId()).isEqualTo(3L);
+        assertThat(verified.getDiscountAmount()).isEqualTo(2000);
+        assertThat(verified.getCouponId()).isEqualTo(77L);
+        assertThat(verified.getOrderKey()).isEqualTo(quote.getOrderKey());
+        assertThat(verified.getFinalAmount()).isEqualTo(quote.getFinalAmount());
+        assertThat(verified.getLines()).hasSize(2);
+        assertThat(verified.getLines().get(0).getOptionIds()).containsExactly(10L, 11L);
+        assertThat(verified.getLines().get(1).getOptionIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쿠폰 없는 견적은 couponId 가 null 로 복원된다")
+    void signWithoutCoupon() {
+        CheckoutQuote verified = signer.verify(signer.sign(quote(0, null, signer.nextExpiry())));
+
+        assertThat(verified.getCouponId()).isNull();
+        assertThat(verified.getDiscountAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("payload 를 바꾸면 (할인 금액 변경) 서명 검증에 실패한다")
+    void rejectTamperedPayload() {
+        String token = signer.sign(quote(2000, 77L, signer.nextExpiry()));
+        int dot = token.indexOf('.');
+        String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+        String tampered = payload.replaceFirst("\\|2000\\|", "|9000|");
+        assertThat(tampered).isNotEqualTo(payload);
+
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(tampered.getBytes(StandardCharsets.UTF_8))
+                + token.substring(dot);
+
+        assertThatThrownBy(() -> signer.verify(forged))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("서명");
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 견적은 거부된다")
+    void rejectOtherKey() {
+        CheckoutQuoteSigner other = new CheckoutQuoteSigner(config("another-checkout-quote-secret-32b!"));
+        String token = other.sign(quote(0, null, other.nextExpiry()));
+
+        assertThatThrownBy(() -> signer.verify(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 견적은 거부된다")
+    void rejectExpired() {
+        String token = signer.sign(quote(0, null, Instant.now().getEpochSecond() - 1));
+
+        assertThatThrownBy(() -> signer.verify(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("만료");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 거부된다")
+    void rejectMalformed() {
+        assertThatThrownBy(() -> signer.verify(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> signer.verify("no-dot")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> signer.verify("abc.")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> signer.verify("!!!.???")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("서명 키가 없거나 짧으면 생성에 실패한다")
+    void rejectMissingOrShortSecret() {
+        assertThatThrownBy(() -> new CheckoutQuoteSigner(config(null))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CheckoutQuoteSigner(config(" "))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CheckoutQuoteSigner(config("short-secret"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("견적마다 다른 토스 orderId 가 발급된다")
+    void orderKeyIsUnique() {
+        String first = signer.nextOrderKey();
+        String second = signer.nextOrderKey();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first).matches("[A-Za-z0-9_]{6,64}");
+    }
+
+    private CheckoutQuoteConfig config(String secret) {
+        CheckoutQuoteConfig config = new CheckoutQuoteConfig();
+        config.setSecret(secret);
+        config.setTtlMinutes(30);
+        return config;
+    }
+
+    private CheckoutQuote quote(int discount, Long couponId, long expiresAt) {
+        return CheckoutQuote.builder()
+                .memberId(1L)
+                .branchId(3L)
+                .discountAmount(discount)
+                .couponId(couponId)
+                .orderKey(signer != null ? signer.nextOrderKey() : "order_test")
+                .isFromCart(true)
+                .expiresAt(expiresAt)
+                .lines(List.of(
+                        CheckoutQuote.Line.builder().productId(5L).quantity(2).unitPrice(4500).optionIds(List.of(10L, 11L)).build(),
+                        CheckoutQuote.Line.builder().productId(6L).quantity(1).unitPrice(3000).optionIds(List.of()).build()))
+                .build();
+    }
+}